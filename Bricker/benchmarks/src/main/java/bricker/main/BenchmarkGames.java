@@ -0,0 +1,86 @@
+package bricker.main;
+
+import static bricker.main.Constants.*;
+
+import bricker.headless.HeadlessSimulation;
+import danogl.collisions.Collision;
+import danogl.util.Vector2;
+
+
+/**
+ * The BenchmarkGames class creates the headless games measured by the benchmarks. Grid sizes are given as
+ * "colsxrows", in the same order as the command-line arguments of BrickerGameManager.
+ */
+final class BenchmarkGames {
+    /**
+     * Minimal width of a brick in a benchmarked game. Large grids widen the window so bricks keep this width.
+     */
+    private static final float MIN_BRICK_WIDTH = 4f;
+
+    /**
+     * Height kept below the bricks for the paddle and the ball.
+     */
+    private static final float PLAY_AREA_HEIGHT = WINDOW_Y;
+
+    /**
+     * Seed of the benchmarked games, so that all runs measure the same layouts and the same games.
+     */
+    private static final long SEED = 2024;
+
+    private BenchmarkGames() {}
+
+    /**
+     * Creates a headless game with the given brick grid, and simulates a single frame so that all initial
+     * objects are already in the game's collection.
+     * @param gridSize Grid size, as "colsxrows" (e.g. "8x7").
+     * @return The simulation of the created game.
+     */
+    static HeadlessSimulation create(String gridSize) {
+        String[] parts = gridSize.split("x");
+        int cols = Integer.parseInt(parts[0]);
+        int rows = Integer.parseInt(parts[1]);
+        // widen / heighten the window so large grids still fit with positive brick sizes
+        float windowX = Math.max(WINDOW_X,
+                cols * (MIN_BRICK_WIDTH + DISTANCE_BETWEEN_BRICKS) + 2 * BORDER_THICKNESS);
+        float windowY = Math.max(WINDOW_Y,
+                rows * (BRICK_HEIGHT + DISTANCE_BETWEEN_BRICKS) + BORDER_THICKNESS + PLAY_AREA_HEIGHT);
+        HeadlessSimulation simulation = new HeadlessSimulation(new Vector2(windowX, windowY), rows, cols,
+                FIXED_DELTA_TIME, false, SEED);
+        simulation.step();
+        return simulation;
+    }
+
+    /**
+     * A collision with a constant normal, standing in for the engine's collision data.
+     */
+    static final class FixedCollision implements Collision {
+        private final Vector2 normal;
+
+        FixedCollision(Vector2 normal) {
+            this.normal = normal;
+        }
+
+        @Override
+        public Vector2 getNormal() {
+            return this.normal;
+        }
+
+        @Override
+        public Vector2 getCollisionPoint() {
+            return Vector2.ZERO;
+        }
+
+        @Override
+        public Vector2 getPenetrationArea() {
+            return Vector2.ZERO;
+        }
+
+        @Override
+        public Vector2 getRelativeVelocity() {
+            return Vector2.ZERO;
+        }
+
+        @Override
+        public void onFrameStart() {}
+    }
+}
@@ -0,0 +1,98 @@
+package bricker.main;
+
+import static bricker.main.Constants.*;
+
+import bricker.brick_field.BrickGrid;
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.Brick;
+import danogl.collisions.Collision;
+import danogl.gui.Sound;
+import danogl.gui.rendering.ImageRenderable;
+import danogl.util.Vector2;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the collision callbacks of the ball and the bricks.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class CollisionBenchmark {
+    @Param({"8x7", "50x50", "200x200", "500x500"})
+    private String gridSize;
+
+    private Ball ball;
+    private Collision collision;
+    private BrickerGameManager gameManager;
+    private List<Brick> bricks;
+
+    /**
+     * Creates the ball and the collision it reacts to.
+     */
+    @Setup(Level.Trial)
+    public void setUpBall() {
+        this.ball = new Ball(Vector2.ZERO, BALL_DIAMETER_VEC, ImageRenderable.DEFAULT_IMAGE,
+                Sound.EMPTY_SOUND);
+        this.ball.setVelocity(new Vector2(BALL_SPEED, BALL_SPEED));
+        this.collision = new BenchmarkGames.FixedCollision(Vector2.UP);
+    }
+
+    /**
+     * Creates a fresh brick field, since every sweep destroys all of its bricks, and creates all of its
+     * Brick objects. The created bricks are then moved into the game's layers, as the end of a frame would,
+     * so that the sweep doesn't measure the engine's handling of a long list of pending additions.
+     */
+    @Setup(Level.Iteration)
+    public void setUpBricks() {
+        this.gameManager = BenchmarkGames.create(this.gridSize).getGameManager();
+        BrickGrid brickGrid = ((IndexedGameObjectCollection) this.gameManager.gameObjects()).getBrickGrid();
+        this.bricks = new ArrayList<>();
+        for (int row = 0; row < brickGrid.getRows(); row++) {
+            for (int col = 0; col < brickGrid.getCols(); col++) {
+                Brick brick = brickGrid.get(row, col);
+                if (brick != null) {
+                    this.bricks.add(brick);
+                }
+            }
+        }
+        this.gameManager.gameObjects().update(0);
+    }
+
+    /**
+     * A single Ball.onCollisionEnter: reflection of the velocity, counter update and collision sound.
+     * Doesn't depend on the grid size.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public void ballOnCollisionEnter() {
+        this.ball.onCollisionEnter(this.ball, this.collision);
+    }
+
+    /**
+     * Brick.onCollisionEnter on every brick of the field once, which queues its hit, and then the queued
+     * hits applied the way a frame applies them, which runs each brick's strategy. Divide the reported time
+     * by the number of bricks for the cost of a single brick hit on the small grids. On the large ones the
+     * time per brick grows with the grid: every Brick object of the field is in its layer at once, unlike in
+     * a game, and the engine checks the layer's list for each removed brick, and the list of added objects
+     * for each puck or heart a strategy adds.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public void brickOnCollisionEnterSweep(Blackhole blackhole) {
+        for (Brick brick : this.bricks) {
+            brick.onCollisionEnter(this.ball, this.collision);
+        }
+        this.gameManager.applyBrickHits();
+        blackhole.consume(this.bricks);
+    }
+}
@@ -0,0 +1,62 @@
+package bricker.main;
+
+import static bricker.main.Constants.FIXED_DELTA_TIME;
+
+import bricker.headless.HeadlessSimulation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures a whole frame of the game: BrickerGameManager.update, including the engine's object updates and
+ * collision handling. Each invocation brings the game back to its state right after it was created, and
+ * then simulates the first FRAMES_PER_INVOCATION frames of play, so every invocation measures the same
+ * frames rather than a game that drifts away from play (e.g. after the ball is lost, or the field cleared).
+ * The reported time is per frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrameUpdateBenchmark {
+    // a second of play; long enough that restoring the game between invocations doesn't skew the timing
+    private static final int FRAMES_PER_INVOCATION = 60;
+
+    @Param({"8x7", "50x50", "200x200", "500x500"})
+    private String gridSize;
+
+    private BrickerGameManager gameManager;
+    private GameSnapshot initialState;
+
+    /**
+     * Creates the benchmarked game, and keeps its initial state.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessSimulation simulation = BenchmarkGames.create(this.gridSize);
+        this.gameManager = simulation.getGameManager();
+        this.initialState = this.gameManager.takeSnapshot();
+    }
+
+    /**
+     * Brings the game back to its initial state, outside the measured time.
+     */
+    @Setup(Level.Invocation)
+    public void resetGame() {
+        this.gameManager.restoreSnapshot(this.initialState);
+    }
+
+    /**
+     * Simulates the first frames of play.
+     */
+    @Benchmark
+    @OperationsPerInvocation(FRAMES_PER_INVOCATION)
+    public void update() {
+        for (int i = 0; i < FRAMES_PER_INVOCATION; i++) {
+            this.gameManager.update(FIXED_DELTA_TIME);
+        }
+    }
+}
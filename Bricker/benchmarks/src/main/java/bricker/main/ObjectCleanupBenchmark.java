@@ -0,0 +1,39 @@
+package bricker.main;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures BrickerGameManager.checkIfRemovingObjectNeeded, the per-frame lookup of objects that left the
+ * game, on a freshly built brick field.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectCleanupBenchmark {
+    @Param({"8x7", "50x50", "200x200", "500x500"})
+    private String gridSize;
+
+    private BrickerGameManager gameManager;
+
+    /**
+     * Creates the benchmarked game.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.gameManager = BenchmarkGames.create(this.gridSize).getGameManager();
+    }
+
+    /**
+     * Looks for objects to remove once.
+     */
+    @Benchmark
+    public void checkIfRemovingObjectNeeded() {
+        this.gameManager.checkIfRemovingObjectNeeded();
+    }
+}
@@ -0,0 +1,191 @@
+package bricker.brick_field;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+
+/**
+ * The BrickField class stores the bricks of a level in a compact structure-of-arrays form: a bit per cell
+ * telling whether its brick is still alive, and a byte per cell holding the id of its collision strategy (as
+ * defined by StrategyFactory). Positions are implied by the grid, so a brick takes a little over a byte until
+ * it's turned into a Brick object.
+ */
+public class BrickField {
+    private final int rows;
+    private final int cols;
+    private final BitSet alive;
+    private final byte[] strategyIds;
+    private CellListener cellListener;
+
+    /**
+     * Constructor. Creates a field in which all cells are empty.
+     * @param rows Number of rows of bricks.
+     * @param cols Number of columns of bricks.
+     */
+    public BrickField(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.alive = new BitSet(rows * cols);
+        this.strategyIds = new byte[rows * cols];
+    }
+
+    /**
+     * @return Number of rows of bricks.
+     */
+    public int getRows() {
+        return this.rows;
+    }
+
+    /**
+     * @return Number of columns of bricks.
+     */
+    public int getCols() {
+        return this.cols;
+    }
+
+    /**
+     * Sets the listener told about the cells whose brick changes, such as a renderer that keeps an image of
+     * the field.
+     * @param cellListener The listener, null for none.
+     */
+    public void setCellListener(CellListener cellListener) {
+        this.cellListener = cellListener;
+    }
+
+    /**
+     * @param row Row of a cell.
+     * @param col Column of a cell.
+     * @return Index of the cell, as used by the other methods.
+     */
+    public int cellOf(int row, int col) {
+        return row * this.cols + col;
+    }
+
+    /**
+     * Places a live brick in a cell.
+     * @param cell Index of the cell.
+     * @param strategyId Id of the collision strategy of the brick.
+     */
+    public void setBrick(int cell, byte strategyId) {
+        this.alive.set(cell);
+        this.strategyIds[cell] = strategyId;
+        if (this.cellListener != null) {
+            this.cellListener.onCellChanged(cell);
+        }
+    }
+
+    /**
+     * Sets all the cells of the field at once, from a byte per cell in cell order: the id of the collision
+     * strategy of the cell's brick, or a negative byte for an empty cell. Much faster than setting the cells
+     * one by one, for large fields.
+     * @param cells Buffer holding a byte per cell of the field, from its position on. The position is
+     *              advanced past the cells.
+     */
+    public void setCells(ByteBuffer cells) {
+        cells.get(this.strategyIds);
+        // the live bits are built a word at a time, and handed to the bit set in one go
+        long[] words = new long[(this.strategyIds.length + Long.SIZE - 1) / Long.SIZE];
+        for (int cell = 0; cell < this.strategyIds.length; cell++) {
+            if (this.strategyIds[cell] >= 0) {
+                words[cell / Long.SIZE] |= 1L << cell;
+            } else {
+                this.strategyIds[cell] = 0;
+            }
+        }
+        this.alive.clear();
+        this.alive.or(BitSet.valueOf(words));
+        if (this.cellListener != null) {
+            this.cellListener.onAllCellsChanged();
+        }
+    }
+
+    /**
+     * Marks the brick of a cell as destroyed.
+     * @param cell Index of the cell.
+     * @return true if the cell had a live brick, false otherwise.
+     */
+    public boolean kill(int cell) {
+        if (!this.alive.get(cell)) {
+            return false;
+        }
+        this.alive.clear(cell);
+        if (this.cellListener != null) {
+            this.cellListener.onCellChanged(cell);
+        }
+        return true;
+    }
+
+    /**
+     * @param cell Index of the cell.
+     * @return true if the cell has a live brick.
+     */
+    public boolean isAlive(int cell) {
+        return this.alive.get(cell);
+    }
+
+    /**
+     * @param fromCell Index of the cell to start looking from (inclusive).
+     * @return Index of the first cell with a live brick starting at fromCell, -1 if there's none.
+     */
+    public int nextAlive(int fromCell) {
+        return this.alive.nextSetBit(fromCell);
+    }
+
+    /**
+     * @param cell Index of the cell.
+     * @return Id of the collision strategy of the cell's brick.
+     */
+    public byte strategyId(int cell) {
+        return this.strategyIds[cell];
+    }
+
+    /**
+     * @return A new field with the same size, live bricks and strategies as this one.
+     */
+    public BrickField copy() {
+        BrickField copy = new BrickField(this.rows, this.cols);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * Sets the live bricks and strategies of this field to those of another field of the same size.
+     * @param other The field to copy.
+     * @throws IllegalArgumentException If the other field's size is different.
+     */
+    public void copyFrom(BrickField other) {
+        if (other.rows != this.rows || other.cols != this.cols) {
+            throw new IllegalArgumentException("Can't copy a " + other.rows + "x" + other.cols +
+                    " brick field to a " + this.rows + "x" + this.cols + " one");
+        }
+        this.alive.clear();
+        this.alive.or(other.alive);
+        System.arraycopy(other.strategyIds, 0, this.strategyIds, 0, this.strategyIds.length);
+        if (this.cellListener != null) {
+            this.cellListener.onAllCellsChanged();
+        }
+    }
+
+    /**
+     * @return Number of live bricks in the field.
+     */
+    public int aliveCount() {
+        return this.alive.cardinality();
+    }
+
+    /**
+     * The CellListener interface is called back when the cells of a BrickField change.
+     */
+    public interface CellListener {
+        /**
+         * Called after a brick was placed in a cell or destroyed.
+         * @param cell Index of the cell.
+         */
+        void onCellChanged(int cell);
+
+        /**
+         * Called after all the cells of the field were set at once.
+         */
+        void onAllCellsChanged();
+    }
+}
@@ -0,0 +1,212 @@
+package bricker.brick_field;
+
+import static bricker.main.Constants.BRICK_TILE_SIZE;
+
+import danogl.GameObject;
+import danogl.gui.rendering.Camera;
+import danogl.gui.rendering.Renderable;
+import danogl.util.MutableVector2;
+import danogl.util.Vector2;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.BitSet;
+
+
+/**
+ * The BrickFieldRenderer class draws all the live bricks of a BrickField, so that bricks don't need to exist
+ * as Brick objects to be seen. Only the part of the field inside the visible part of the world (the
+ * camera's view, or the window when there's no camera) is drawn.
+ * The field is drawn as tiles: images of a block of cells, about BRICK_TILE_SIZE pixels on each side, in
+ * which the live bricks of the block are composed once. Drawing the field then takes a draw call per
+ * visible tile rather than one per visible brick. The renderer listens to the field's cells: a tile is
+ * composed again only where its cells changed, such as the cell of a destroyed brick, and from scratch once
+ * all the cells of the field were replaced. Tiles are created when they're first seen.
+ */
+public class BrickFieldRenderer extends GameObject implements BrickField.CellListener {
+    private final BrickGrid brickGrid;
+    private final Renderable brickRenderable;
+    private final Vector2 windowDimensions;
+    private final int tileCols;
+    private final int tileRows;
+    private final int tilesPerRow;
+    private final int tileWidth;
+    private final int tileHeight;
+    private final BufferedImage[] tiles;
+    private final boolean[] composedTiles;
+    private final boolean[] dirtyTiles;
+    private final BitSet dirtyCells;
+    private final MutableVector2 cellTopLeft;
+
+    /**
+     * Constructor. Starts listening to the cells of the grid's field.
+     * @param brickGrid The grid of the bricks to draw.
+     * @param brickRenderable Image of a brick.
+     * @param windowDimensions Window dimensions vector.
+     */
+    public BrickFieldRenderer(BrickGrid brickGrid, Renderable brickRenderable, Vector2 windowDimensions) {
+        super(brickGrid.getTopLeftCorner(), Vector2.ZERO, null);
+        this.brickGrid = brickGrid;
+        this.brickRenderable = brickRenderable;
+        this.windowDimensions = windowDimensions;
+        // a tile has at least a cell, however large the cells are
+        this.tileCols = Math.max((int) (BRICK_TILE_SIZE / brickGrid.getCellWidth()), 1);
+        this.tileRows = Math.max((int) (BRICK_TILE_SIZE / brickGrid.getCellHeight()), 1);
+        this.tilesPerRow = (brickGrid.getCols() + this.tileCols - 1) / this.tileCols;
+        int tilesPerCol = (brickGrid.getRows() + this.tileRows - 1) / this.tileRows;
+        // a pixel more than the cells, for the rounding of their positions to whole pixels
+        this.tileWidth = (int) Math.ceil(this.tileCols * brickGrid.getCellWidth()) + 1;
+        this.tileHeight = (int) Math.ceil(this.tileRows * brickGrid.getCellHeight()) + 1;
+        this.tiles = new BufferedImage[this.tilesPerRow * tilesPerCol];
+        this.composedTiles = new boolean[this.tiles.length];
+        this.dirtyTiles = new boolean[this.tiles.length];
+        this.dirtyCells = new BitSet();
+        this.cellTopLeft = new MutableVector2();
+        brickGrid.getBrickField().setCellListener(this);
+    }
+
+    /**
+     * Draws the tiles of the visible live bricks, in world coordinates translated by the camera if there's
+     * one, composing again the tiles whose cells changed.
+     * @param g The graphics objects passed to GameManager.render.
+     * @param camera The active camera, null if there's none.
+     */
+    @Override
+    public void render(Graphics2D g, Camera camera) {
+        // visible rectangle in world coordinates, and the scale from world to screen coordinates
+        float viewX = 0;
+        float viewY = 0;
+        float scaleX = 1;
+        float scaleY = 1;
+        Vector2 viewDimensions = this.windowDimensions;
+        if (camera != null) {
+            viewX = camera.getTopLeftCorner().x();
+            viewY = camera.getTopLeftCorner().y();
+            viewDimensions = camera.getDimensions();
+            scaleX = camera.windowDimensions().x() / viewDimensions.x();
+            scaleY = camera.windowDimensions().y() / viewDimensions.y();
+        }
+        int firstCol = Math.max(this.brickGrid.colOf(viewX), 0);
+        int lastCol = Math.min(this.brickGrid.colOf(viewX + viewDimensions.x()),
+                this.brickGrid.getCols() - 1);
+        int firstRow = Math.max(this.brickGrid.rowOf(viewY), 0);
+        int lastRow = Math.min(this.brickGrid.rowOf(viewY + viewDimensions.y()),
+                this.brickGrid.getRows() - 1);
+        if (firstCol > lastCol || firstRow > lastRow) {
+            return;
+        }
+        int screenWidth = (int) (this.tileWidth * scaleX);
+        int screenHeight = (int) (this.tileHeight * scaleY);
+        for (int tileRow = firstRow / this.tileRows; tileRow <= lastRow / this.tileRows; tileRow++) {
+            int worldY = tileOriginY(tileRow);
+            for (int tileCol = firstCol / this.tileCols; tileCol <= lastCol / this.tileCols; tileCol++) {
+                int worldX = tileOriginX(tileCol);
+                BufferedImage tile = composedTile(tileRow, tileCol);
+                int screenX = (int) ((worldX - viewX) * scaleX);
+                int screenY = (int) ((worldY - viewY) * scaleY);
+                // an unscaled image is copied as is, which is faster than drawing it scaled
+                if (scaleX == 1 && scaleY == 1) {
+                    g.drawImage(tile, screenX, screenY, null);
+                } else {
+                    g.drawImage(tile, screenX, screenY, screenWidth, screenHeight, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the cell as dirty, in case its tile was already composed.
+     * @param cell Index of the cell.
+     */
+    @Override
+    public void onCellChanged(int cell) {
+        int tile = tileOf(cell / this.brickGrid.getCols(), cell % this.brickGrid.getCols());
+        // a tile that isn't composed yet is composed from the field as it is once it's seen
+        if (this.composedTiles[tile]) {
+            this.dirtyCells.set(cell);
+            this.dirtyTiles[tile] = true;
+        }
+    }
+
+    /**
+     * Marks all the tiles as needing to be composed from scratch.
+     */
+    @Override
+    public void onAllCellsChanged() {
+        Arrays.fill(this.composedTiles, false);
+        Arrays.fill(this.dirtyTiles, false);
+        this.dirtyCells.clear();
+    }
+
+    private BufferedImage composedTile(int tileRow, int tileCol) {
+        int tile = tileOf(tileRow * this.tileRows, tileCol * this.tileCols);
+        if (this.tiles[tile] == null) {
+            this.tiles[tile] = new BufferedImage(this.tileWidth, this.tileHeight,
+                    BufferedImage.TYPE_INT_ARGB);
+        }
+        if (this.composedTiles[tile] && !this.dirtyTiles[tile]) {
+            return this.tiles[tile];
+        }
+        BrickField brickField = this.brickGrid.getBrickField();
+        int firstRow = tileRow * this.tileRows;
+        int lastRow = Math.min(firstRow + this.tileRows, this.brickGrid.getRows()) - 1;
+        int firstCol = tileCol * this.tileCols;
+        int lastCol = Math.min(firstCol + this.tileCols, this.brickGrid.getCols()) - 1;
+        Graphics2D tileGraphics = this.tiles[tile].createGraphics();
+        tileGraphics.translate(-tileOriginX(tileCol), -tileOriginY(tileRow));
+        for (int row = firstRow; row <= lastRow; row++) {
+            int firstCell = brickField.cellOf(row, firstCol);
+            int lastCell = brickField.cellOf(row, lastCol);
+            if (!this.composedTiles[tile]) {
+                for (int cell = firstCell; cell <= lastCell; cell++) {
+                    composeCell(tileGraphics, brickField, cell);
+                }
+                continue;
+            }
+            // only the cells that changed since the tile was composed
+            for (int cell = this.dirtyCells.nextSetBit(firstCell); cell != -1 && cell <= lastCell;
+                 cell = this.dirtyCells.nextSetBit(cell + 1)) {
+                composeCell(tileGraphics, brickField, cell);
+            }
+            this.dirtyCells.clear(firstCell, lastCell + 1);
+        }
+        tileGraphics.dispose();
+        this.composedTiles[tile] = true;
+        this.dirtyTiles[tile] = false;
+        return this.tiles[tile];
+    }
+
+    private void composeCell(Graphics2D tileGraphics, BrickField brickField, int cell) {
+        int row = cell / this.brickGrid.getCols();
+        int col = cell % this.brickGrid.getCols();
+        Vector2 gridTopLeft = this.brickGrid.getTopLeftCorner();
+        // the tile's graphics are translated to world pixels, so each brick lands on the same whole pixels
+        // it would if it were drawn on its own
+        this.cellTopLeft.setXY((int) (gridTopLeft.x() + col * this.brickGrid.getCellWidth()),
+                (int) (gridTopLeft.y() + row * this.brickGrid.getCellHeight()));
+        Vector2 brickSize = this.brickGrid.getBrickSize();
+        // the same pixels the brick's image covers, as the image is drawn at whole pixels
+        tileGraphics.setComposite(AlphaComposite.Clear);
+        tileGraphics.fillRect((int) this.cellTopLeft.x(), (int) this.cellTopLeft.y(), (int) brickSize.x(),
+                (int) brickSize.y());
+        tileGraphics.setComposite(AlphaComposite.SrcOver);
+        if (brickField.isAlive(cell)) {
+            this.brickRenderable.render(tileGraphics, this.cellTopLeft, brickSize);
+        }
+    }
+
+    private int tileOriginX(int tileCol) {
+        return (int) (this.brickGrid.getTopLeftCorner().x()
+                + tileCol * this.tileCols * this.brickGrid.getCellWidth());
+    }
+
+    private int tileOriginY(int tileRow) {
+        return (int) (this.brickGrid.getTopLeftCorner().y()
+                + tileRow * this.tileRows * this.brickGrid.getCellHeight());
+    }
+
+    private int tileOf(int row, int col) {
+        return (row / this.tileRows) * this.tilesPerRow + col / this.tileCols;
+    }
+}
@@ -0,0 +1,365 @@
+package bricker.brick_field;
+
+import bricker.gameobjects.Brick;
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * The BrickGrid class is a spatial index of the bricks of the game. Bricks are laid out on a uniform grid,
+ * so the cell of a brick, and the cells an object overlaps, are computed directly from their coordinates.
+ * This lets collision detection test an object only against the few bricks around it, regardless of how
+ * many bricks the game has.
+ * The bricks themselves are kept in a BrickField. A cell's Brick object is only created, through a
+ * BrickMaterializer, the first time a query reaches it, and a Brick object that is no longer near the
+ * objects that query the grid may be released, turning its cell back into a plain record of the field. The
+ * Brick objects that exist are also kept in a list, so going over them costs as much as their number, rather
+ * than the size of the field. Each cell keeps the index of its brick in the list, so a brick is found,
+ * released and marked (see markBricksNear) without searching the list.
+ */
+public class BrickGrid {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final BrickField brickField;
+    private final Vector2 topLeftCorner;
+    private final Vector2 brickSize;
+    private final float cellWidth;
+    private final float cellHeight;
+    private final int[] materializedIndices;
+    private final List<Brick> materializedBrickList;
+    private int[] materializedCells;
+    private boolean[] nearMarks;
+    private BrickMaterializer materializer;
+
+    /**
+     * Constructor.
+     * @param brickField The bricks of the level.
+     * @param topLeftCorner The top-left corner position of the brick at row 0, column 0.
+     * @param brickSize Size vector of a brick.
+     * @param distanceBetweenBricks Distance between two adjacent bricks, in both axes.
+     */
+    public BrickGrid(BrickField brickField, Vector2 topLeftCorner, Vector2 brickSize,
+                     float distanceBetweenBricks) {
+        this.brickField = brickField;
+        this.topLeftCorner = topLeftCorner;
+        this.brickSize = brickSize;
+        this.cellWidth = brickSize.x() + distanceBetweenBricks;
+        this.cellHeight = brickSize.y() + distanceBetweenBricks;
+        // the index of each cell's brick in the list, -1 for cells without a Brick object
+        this.materializedIndices = new int[brickField.getRows() * brickField.getCols()];
+        Arrays.fill(this.materializedIndices, -1);
+        this.materializedBrickList = new ArrayList<>();
+        // the cell and the mark of each brick of the list, at the brick's index
+        this.materializedCells = new int[INITIAL_CAPACITY];
+        this.nearMarks = new boolean[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Sets the materializer used to create the Brick objects of cells reached by queries.
+     * @param materializer Creates the Brick object of a cell.
+     */
+    public void setMaterializer(BrickMaterializer materializer) {
+        this.materializer = materializer;
+    }
+
+    /**
+     * @return The bricks of the level.
+     */
+    public BrickField getBrickField() {
+        return this.brickField;
+    }
+
+    /**
+     * @return Number of rows of bricks.
+     */
+    public int getRows() {
+        return this.brickField.getRows();
+    }
+
+    /**
+     * @return Number of columns of bricks.
+     */
+    public int getCols() {
+        return this.brickField.getCols();
+    }
+
+    /**
+     * @return Size vector of a brick.
+     */
+    public Vector2 getBrickSize() {
+        return this.brickSize;
+    }
+
+    /**
+     * @return The top-left corner position of the brick at row 0, column 0.
+     */
+    public Vector2 getTopLeftCorner() {
+        return this.topLeftCorner;
+    }
+
+    /**
+     * @return Horizontal distance between the left edges of two adjacent bricks.
+     */
+    public float getCellWidth() {
+        return this.cellWidth;
+    }
+
+    /**
+     * @return Vertical distance between the top edges of two adjacent bricks.
+     */
+    public float getCellHeight() {
+        return this.cellHeight;
+    }
+
+    /**
+     * @param row Row of a cell.
+     * @param col Column of a cell.
+     * @return The top-left corner position of the brick in the given cell.
+     */
+    public Vector2 cellTopLeftCorner(int row, int col) {
+        return new Vector2(col * this.cellWidth + this.topLeftCorner.x(),
+                row * this.cellHeight + this.topLeftCorner.y());
+    }
+
+    /**
+     * Registers the Brick object of the cell its center is in, in place of the cell's former object, if any.
+     * Bricks outside the grid are ignored.
+     * @param brick The brick to register.
+     */
+    public void add(Brick brick) {
+        int cell = cellOf(brick);
+        if (cell < 0 || materializedBrick(cell) == brick) {
+            return;
+        }
+        if (this.materializedIndices[cell] >= 0) {
+            releaseAt(this.materializedIndices[cell]);
+        }
+        int index = this.materializedBrickList.size();
+        if (index == this.materializedCells.length) {
+            this.materializedCells = Arrays.copyOf(this.materializedCells, index * 2);
+            this.nearMarks = Arrays.copyOf(this.nearMarks, index * 2);
+        }
+        this.materializedBrickList.add(brick);
+        this.materializedCells[index] = cell;
+        this.nearMarks[index] = false;
+        this.materializedIndices[cell] = index;
+    }
+
+    /**
+     * Removes a brick from the cell its center is in, and marks it as destroyed in the brick field.
+     * @param brick The brick to remove.
+     * @return true if the brick was in the grid, false otherwise.
+     */
+    public boolean remove(Brick brick) {
+        int cell = cellOf(brick);
+        if (!release(brick)) {
+            return false;
+        }
+        this.brickField.kill(cell);
+        return true;
+    }
+
+    /**
+     * Forgets the Brick object of a cell, without destroying the cell's brick: the next query that reaches
+     * the cell creates a new Brick object for it.
+     * @param brick The brick to release.
+     * @return true if the brick was in the grid, false otherwise.
+     */
+    public boolean release(Brick brick) {
+        int cell = cellOf(brick);
+        if (cell < 0 || materializedBrick(cell) != brick) {
+            return false;
+        }
+        releaseAt(this.materializedIndices[cell]);
+        return true;
+    }
+
+    /**
+     * Marks the Brick objects of the cells an object is near, so that the next releaseUnmarkedBricks keeps
+     * them. Costs as much as the number of cells near the object, whatever the number of Brick objects.
+     * @param obj The object.
+     * @param distance Distance, in pixels, from the object's box under which a cell is near it.
+     */
+    public void markBricksNear(GameObject obj, float distance) {
+        Vector2 objTopLeft = obj.getTopLeftCorner();
+        Vector2 objDimensions = obj.getDimensions();
+        int firstCol = Math.max(colOf(objTopLeft.x() - distance), 0);
+        int lastCol = Math.min(colOf(objTopLeft.x() + objDimensions.x() + distance), getCols() - 1);
+        int firstRow = Math.max(rowOf(objTopLeft.y() - distance), 0);
+        int lastRow = Math.min(rowOf(objTopLeft.y() + objDimensions.y() + distance), getRows() - 1);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                int index = this.materializedIndices[this.brickField.cellOf(row, col)];
+                if (index >= 0) {
+                    this.nearMarks[index] = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks a single Brick object, so that the next releaseUnmarkedBricks keeps it.
+     * @param brick A brick of the grid.
+     */
+    public void markBrick(Brick brick) {
+        int cell = cellOf(brick);
+        if (cell >= 0 && materializedBrick(cell) == brick) {
+            this.nearMarks[this.materializedIndices[cell]] = true;
+        }
+    }
+
+    /**
+     * Releases (see release) the Brick objects that weren't marked since the last call, and takes the marks
+     * off the others.
+     * @param visitor Called with each released brick, after it was released.
+     */
+    public void releaseUnmarkedBricks(BrickVisitor visitor) {
+        // releasing a brick moves the last brick to its place, which was already checked
+        for (int i = this.materializedBrickList.size() - 1; i >= 0; i--) {
+            if (this.nearMarks[i]) {
+                this.nearMarks[i] = false;
+                continue;
+            }
+            Brick brick = this.materializedBrickList.get(i);
+            releaseAt(i);
+            visitor.visit(brick);
+        }
+    }
+
+    /**
+     * Visits all the bricks that were created as objects and weren't removed or released yet.
+     * @param visitor Called with each of the bricks.
+     */
+    public void forEachMaterializedBrick(BrickVisitor visitor) {
+        for (int i = 0; i < this.materializedBrickList.size(); i++) {
+            visitor.visit(this.materializedBrickList.get(i));
+        }
+    }
+
+    /**
+     * Returns the bricks that were created as objects and weren't removed or released yet. The list is
+     * updated by the grid itself; callers that release bricks while going over it should go from its end to
+     * its start.
+     * @return List of the materialized bricks, in no particular order.
+     */
+    public List<Brick> materializedBricks() {
+        return this.materializedBrickList;
+    }
+
+    /**
+     * Returns the Brick object of a cell, creating it if it wasn't created yet.
+     * @param row Row of a cell.
+     * @param col Column of a cell.
+     * @return The brick in the given cell, null if the cell has no live brick.
+     */
+    public Brick get(int row, int col) {
+        int cell = this.brickField.cellOf(row, col);
+        if (!this.brickField.isAlive(cell)) {
+            return null;
+        }
+        Brick brick = materializedBrick(cell);
+        if (brick == null && this.materializer != null) {
+            brick = this.materializer.materialize(row, col, this.brickField.strategyId(cell));
+            // the materializer usually adds the brick to the game, which already registers it
+            add(brick);
+        }
+        return brick;
+    }
+
+    /**
+     * @param x X coordinate.
+     * @return The column whose cell contains x, which may be outside of the grid.
+     */
+    public int colOf(float x) {
+        return (int) Math.floor((x - this.topLeftCorner.x()) / this.cellWidth);
+    }
+
+    /**
+     * @param y Y coordinate.
+     * @return The row whose cell contains y, which may be outside of the grid.
+     */
+    public int rowOf(float y) {
+        return (int) Math.floor((y - this.topLeftCorner.y()) / this.cellHeight);
+    }
+
+    /**
+     * Calls the visitor on every live brick whose cell overlaps the bounding box of the given object.
+     * @param obj The object.
+     * @param visitor Called for every brick found.
+     */
+    public void forEachBrickNear(GameObject obj, BrickVisitor visitor) {
+        Vector2 objTopLeft = obj.getTopLeftCorner();
+        Vector2 objDimensions = obj.getDimensions();
+        int firstCol = Math.max(colOf(objTopLeft.x()), 0);
+        int lastCol = Math.min(colOf(objTopLeft.x() + objDimensions.x()), getCols() - 1);
+        int firstRow = Math.max(rowOf(objTopLeft.y()), 0);
+        int lastRow = Math.min(rowOf(objTopLeft.y() + objDimensions.y()), getRows() - 1);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                Brick brick = get(row, col);
+                if (brick != null) {
+                    visitor.visit(brick);
+                }
+            }
+        }
+    }
+
+    private Brick materializedBrick(int cell) {
+        int index = this.materializedIndices[cell];
+        return index < 0 ? null : this.materializedBrickList.get(index);
+    }
+
+    private void releaseAt(int index) {
+        int cell = this.materializedCells[index];
+        // the order of the list doesn't matter, so the last brick takes the place of the released one
+        int lastIndex = this.materializedBrickList.size() - 1;
+        int lastCell = this.materializedCells[lastIndex];
+        this.materializedBrickList.set(index, this.materializedBrickList.get(lastIndex));
+        this.materializedCells[index] = lastCell;
+        this.nearMarks[index] = this.nearMarks[lastIndex];
+        this.materializedIndices[lastCell] = index;
+        this.materializedBrickList.remove(lastIndex);
+        // last, in case the released brick was the last one
+        this.materializedIndices[cell] = -1;
+    }
+
+    private int cellOf(Brick brick) {
+        Vector2 center = brick.getCenter();
+        int row = rowOf(center.y());
+        int col = colOf(center.x());
+        if (row < 0 || row >= getRows() || col < 0 || col >= getCols()) {
+            return -1;
+        }
+        return this.brickField.cellOf(row, col);
+    }
+
+    /**
+     * The BrickVisitor interface is called back on the bricks found by a grid query.
+     */
+    @FunctionalInterface
+    public interface BrickVisitor {
+        /**
+         * @param brick A brick found by the query.
+         */
+        void visit(Brick brick);
+    }
+
+    /**
+     * The BrickMaterializer interface creates the Brick object of a cell of the field, the first time the
+     * brick is needed as an object.
+     */
+    @FunctionalInterface
+    public interface BrickMaterializer {
+        /**
+         * @param row Row of the cell.
+         * @param col Column of the cell.
+         * @param strategyId Id of the collision strategy of the cell's brick.
+         * @return The created brick.
+         */
+        Brick materialize(int row, int col, byte strategyId);
+    }
+}
@@ -0,0 +1,254 @@
+package bricker.brick_field;
+
+import static bricker.main.Constants.STRATEGY_IDS_COUNT;
+import static bricker.main.Constants.TEXT_LEVEL_EXTENSION;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * The LevelFile class reads and writes levels: the size of the brick grid, which of its cells have a brick,
+ * and the id of each brick's collision strategy (as defined by StrategyFactory). A level is read into a
+ * BrickField.
+ * Levels come in two formats, told apart by their first bytes:
+ * The binary format starts with a header: MAGIC (int), VERSION (byte), the number of rows (int) and the
+ * number of columns (int). It's followed by a byte per cell, row by row: the strategy id of the cell's brick,
+ * or EMPTY_CELL. Binary levels are memory mapped, and the cells are copied from the mapping in bulk, so even
+ * levels of millions of cells open in a few milliseconds.
+ * The text format is meant to be written by hand. Its first line (after any blank lines and lines starting
+ * with '#', which are ignored) is "level", the number of rows and the number of columns, separated by
+ * spaces. It's followed by a line per row, with a character per cell: EMPTY_CELL_CHAR for an empty cell,
+ * or the strategy id of the cell's brick as a base 36 digit (0-9, then a-z).
+ */
+public final class LevelFile {
+    /**
+     * First bytes of every binary level ("BRKL").
+     */
+    static final int MAGIC = 0x42524B4C;
+
+    /**
+     * Version of the binary format.
+     */
+    static final byte VERSION = 1;
+
+    /**
+     * Size, in bytes, of the header of a binary level.
+     */
+    static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + Integer.BYTES + Integer.BYTES;
+
+    /**
+     * Cell byte of an empty cell in a binary level.
+     */
+    static final byte EMPTY_CELL = -1;
+
+    /**
+     * First word of the header line of a text level.
+     */
+    static final String TEXT_HEADER = "level";
+
+    /**
+     * Character of an empty cell in a text level.
+     */
+    static final char EMPTY_CELL_CHAR = '.';
+
+    /**
+     * Radix of the strategy ids in a text level.
+     */
+    static final int TEXT_RADIX = Character.MAX_RADIX;
+
+    private static final char COMMENT_CHAR = '#';
+
+    private LevelFile() {}
+
+    /**
+     * Reads a level, in either format.
+     * @param path Path of the level file.
+     * @return A new brick field, holding the level's bricks.
+     * @throws IOException If the file can't be read, or isn't a valid level.
+     */
+    public static BrickField read(Path path) throws IOException {
+        if (isBinary(path)) {
+            return readBinary(path);
+        }
+        return readText(path);
+    }
+
+    /**
+     * Writes the live bricks of a field as a level, in the text format if the path ends with
+     * TEXT_LEVEL_EXTENSION, and in the binary format otherwise. An existing file is replaced.
+     * @param brickField The bricks of the level.
+     * @param path       Path of the level file.
+     * @throws IOException If the file can't be written.
+     */
+    public static void write(BrickField brickField, Path path) throws IOException {
+        if (path.getFileName().toString().endsWith(TEXT_LEVEL_EXTENSION)) {
+            writeText(brickField, path);
+        } else {
+            writeBinary(brickField, path);
+        }
+    }
+
+    /**
+     * Converts a level from one format to the other (or copies it in the same format).
+     * @param args Command-line arguments: path of the level to read, then path of the level to write, whose
+     *             extension picks its format (see write).
+     * @throws IOException If the level can't be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: LevelFile <input level> <output level>");
+            return;
+        }
+        long startTime = System.nanoTime();
+        BrickField brickField = read(Path.of(args[0]));
+        double readMillis = (System.nanoTime() - startTime) / 1e6;
+        write(brickField, Path.of(args[1]));
+        System.out.printf("Read a %dx%d level with %d bricks in %.3f ms%n", brickField.getRows(),
+                brickField.getCols(), brickField.aliveCount(), readMillis);
+    }
+
+    private static boolean isBinary(Path path) throws IOException {
+        try (InputStream input = Files.newInputStream(path)) {
+            byte[] start = input.readNBytes(Integer.BYTES);
+            return start.length == Integer.BYTES && ByteBuffer.wrap(start).getInt() == MAGIC;
+        }
+    }
+
+    private static BrickField readBinary(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException(path + " is not a level");
+            }
+            // the mapping stays valid after the channel is closed, until it's garbage collected
+            MappedByteBuffer level = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            level.getInt();
+            byte version = level.get();
+            if (version != VERSION) {
+                throw new IOException("Unsupported level version " + version);
+            }
+            int rows = level.getInt();
+            int cols = level.getInt();
+            long cells = checkSize(path, rows, cols);
+            if (level.remaining() != cells) {
+                throw new IOException(path + " should have " + cells + " cells, but has "
+                        + level.remaining());
+            }
+            for (int i = level.position(); i < level.limit(); i++) {
+                byte strategyId = level.get(i);
+                if (strategyId != EMPTY_CELL && (strategyId < 0 || strategyId >= STRATEGY_IDS_COUNT)) {
+                    throw new IOException(path + " has an unknown strategy id " + strategyId);
+                }
+            }
+            BrickField brickField = new BrickField(rows, cols);
+            brickField.setCells(level);
+            return brickField;
+        }
+    }
+
+    private static BrickField readText(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            String[] header = nextLine(reader, path).trim().split("\\s+");
+            if (header.length != 3 || !header[0].equals(TEXT_HEADER)) {
+                throw new IOException(path + " is not a level");
+            }
+            int rows;
+            int cols;
+            try {
+                rows = Integer.parseInt(header[1]);
+                cols = Integer.parseInt(header[2]);
+            } catch (NumberFormatException e) {
+                throw new IOException(path + " has an invalid size", e);
+            }
+            checkSize(path, rows, cols);
+            // the rows go to the same kind of buffer a binary level is read from
+            ByteBuffer cells = ByteBuffer.allocate(rows * cols);
+            for (int row = 0; row < rows; row++) {
+                String line = nextLine(reader, path).trim();
+                if (line.length() != cols) {
+                    throw new IOException(path + " row " + row + " should have " + cols + " cells");
+                }
+                for (int col = 0; col < cols; col++) {
+                    cells.put(parseCell(path, line.charAt(col)));
+                }
+            }
+            cells.flip();
+            BrickField brickField = new BrickField(rows, cols);
+            brickField.setCells(cells);
+            return brickField;
+        }
+    }
+
+    private static String nextLine(BufferedReader reader, Path path) throws IOException {
+        String line = reader.readLine();
+        while (line != null && (line.isBlank() || line.trim().charAt(0) == COMMENT_CHAR)) {
+            line = reader.readLine();
+        }
+        if (line == null) {
+            throw new IOException(path + " ended before all its rows");
+        }
+        return line;
+    }
+
+    private static byte parseCell(Path path, char cell) throws IOException {
+        if (cell == EMPTY_CELL_CHAR) {
+            return EMPTY_CELL;
+        }
+        int strategyId = Character.digit(cell, TEXT_RADIX);
+        if (strategyId < 0 || strategyId >= STRATEGY_IDS_COUNT) {
+            throw new IOException(path + " has an unknown strategy id '" + cell + "'");
+        }
+        return (byte) strategyId;
+    }
+
+    private static long checkSize(Path path, int rows, int cols) throws IOException {
+        long cells = (long) rows * cols;
+        // the cells of a field are indexed by an int
+        if (rows <= 0 || cols <= 0 || cells > Integer.MAX_VALUE) {
+            throw new IOException(path + " has an invalid size " + rows + "x" + cols);
+        }
+        return cells;
+    }
+
+    private static void writeBinary(BrickField brickField, Path path) throws IOException {
+        int cells = brickField.getRows() * brickField.getCols();
+        ByteBuffer level = ByteBuffer.allocate(HEADER_SIZE + cells);
+        level.putInt(MAGIC);
+        level.put(VERSION);
+        level.putInt(brickField.getRows());
+        level.putInt(brickField.getCols());
+        for (int cell = 0; cell < cells; cell++) {
+            level.put(brickField.isAlive(cell) ? brickField.strategyId(cell) : EMPTY_CELL);
+        }
+        level.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (level.hasRemaining()) {
+                channel.write(level);
+            }
+        }
+    }
+
+    private static void writeText(BrickField brickField, Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            writer.write(TEXT_HEADER + " " + brickField.getRows() + " " + brickField.getCols());
+            writer.newLine();
+            for (int row = 0; row < brickField.getRows(); row++) {
+                for (int col = 0; col < brickField.getCols(); col++) {
+                    int cell = brickField.cellOf(row, col);
+                    writer.write(brickField.isAlive(cell)
+                            ? Character.forDigit(brickField.strategyId(cell), TEXT_RADIX) : EMPTY_CELL_CHAR);
+                }
+                writer.newLine();
+            }
+        }
+    }
+}
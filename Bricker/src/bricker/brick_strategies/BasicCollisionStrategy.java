@@ -1,8 +1,9 @@
 package bricker.brick_strategies;
 
+import static bricker.main.Constants.BRICKS_LAYER;
+
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
-import danogl.collisions.Layer;
 import danogl.util.Counter;
 
 
@@ -34,7 +35,7 @@ public class BasicCollisionStrategy implements CollisionStrategy{
      */
     @Override
     public void onCollision(GameObject object1, GameObject object2) {
-        if (this.gameObjects.removeGameObject(object1, Layer.STATIC_OBJECTS)){
+        if (this.gameObjects.removeGameObject(object1, BRICKS_LAYER)){
             this.bricksLeft.decrement();
         }
     }
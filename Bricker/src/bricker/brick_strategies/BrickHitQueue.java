@@ -0,0 +1,70 @@
+package bricker.brick_strategies;
+
+import bricker.gameobjects.Brick;
+import danogl.GameObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * The BrickHitQueue class collects the hits of bricks while collisions are resolved, and applies their
+ * collision strategies (removing bricks, updating the counters, adding pucks, hearts and paddles) in a
+ * single pass at the end of the frame. The collisions themselves then only bounce the balls, and the game's
+ * objects don't change while they're resolved.
+ * A brick is hit at most once per frame: later hits of a brick that was already hit in the same frame still
+ * bounce the ball, but don't apply the brick's strategy again. The hit bricks are also kept in a set, so
+ * checking whether a brick was already hit costs the same however many bricks were hit in the frame.
+ */
+public class BrickHitQueue {
+    private final List<Brick> hitBricks;
+    private final List<GameObject> hitters;
+    private final Set<Brick> queuedBricks;
+
+    /**
+     * Constructor.
+     */
+    public BrickHitQueue() {
+        this.hitBricks = new ArrayList<>();
+        this.hitters = new ArrayList<>();
+        this.queuedBricks = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Queues the hit of a brick, unless the brick was already hit in this frame.
+     * @param brick The hit brick.
+     * @param other The game object that hit the brick.
+     */
+    public void add(Brick brick, GameObject other) {
+        if (!this.queuedBricks.add(brick)) {
+            return;
+        }
+        this.hitBricks.add(brick);
+        this.hitters.add(other);
+    }
+
+    /**
+     * @param brick A brick.
+     * @return Whether the brick was hit in this frame, and its hit wasn't applied yet.
+     */
+    public boolean isQueued(Brick brick) {
+        return this.queuedBricks.contains(brick);
+    }
+
+    /**
+     * Applies the collision strategies of the queued hits, in the order the bricks were hit, and empties the
+     * queue.
+     */
+    public void applyAll() {
+        for (int i = 0; i < this.hitBricks.size(); i++) {
+            Brick brick = this.hitBricks.get(i);
+            brick.getCollisionStrategy().onCollision(brick, this.hitters.get(i));
+        }
+        this.hitBricks.clear();
+        this.hitters.clear();
+        this.queuedBricks.clear();
+    }
+}
@@ -1,9 +1,7 @@
 package bricker.brick_strategies;
 
-import static bricker.main.Constants.BALL;
-import static bricker.main.Constants.PUCK;
-
 import bricker.gameobjects.Ball;
+import bricker.gameobjects.ObjectKind;
 import danogl.GameManager;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
@@ -51,13 +49,13 @@ public class CameraChangeStrategy extends BasicCollisionStrategy implements Coll
     public void onCollision(GameObject object1, GameObject object2) {
         super.onCollision(object1, object2);
         // if object collided with brick isn't main Ball / there's already an active camera, do noting
-        if(object2.getTag().equals(PUCK) || !(object2.getTag().equals(BALL))
-                || this.gameManager.camera() != null) {
+        if(ObjectKind.of(object2) != ObjectKind.BALL || this.gameManager.camera() != null) {
             return;
         }
-        // update counter of ball hits before collision with camera strategy; +1 for hitting object1
+        // update counter of ball hits before collision with camera strategy; the strategy runs from the
+        // BrickHitQueue once the frame's collisions are over, so the ball already counted hitting object1
         this.hitsBeforeCameraChange.reset();
-        this.hitsBeforeCameraChange.increaseBy(((Ball)object2).getCollisionCounter() + 1);
+        this.hitsBeforeCameraChange.increaseBy(((Ball)object2).getCollisionCounter());
         // set a new camera to follow the ball, reset the cameraHitsCounter
         this.gameManager.setCamera(new Camera(object2, Vector2.ZERO,
                 this.windowController.getWindowDimensions().mult(1.f),
@@ -2,10 +2,10 @@ package bricker.brick_strategies;
 
 import static bricker.main.Constants.HEART_VELOCITY;
 
+import bricker.gameobjects.GameObjectPool;
 import bricker.gameobjects.Heart;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
-import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
 
@@ -15,28 +15,26 @@ import danogl.util.Vector2;
  * heart upon collision.
  */
 public class HeartFallStrategy extends BasicCollisionStrategy implements CollisionStrategy{
-    private final Renderable renderable;
+    private final GameObjectPool<Heart> heartPool;
     private final Vector2 heartSize;
-    private final Counter livesCounter;
 
     /**
      * Constructor.
      * @param gameObjects The collection of game objects.
-     * @param renderable Image of the Heart
+     * @param heartPool Pool the falling hearts are taken from, instead of creating new ones.
      * @param heartSize Size vector of the heart.
-     * @param livesCounter Counter that saves the player's remaining lives.
      * @param bricksLeft Counter that saves how many bricks are left in the game (yet to collide with a ball).
      */
-    public HeartFallStrategy(GameObjectCollection gameObjects, Renderable renderable,
-                             Vector2 heartSize, Counter livesCounter, Counter bricksLeft) {
+    public HeartFallStrategy(GameObjectCollection gameObjects, GameObjectPool<Heart> heartPool,
+                             Vector2 heartSize, Counter bricksLeft) {
         super(gameObjects, bricksLeft);
-        this.renderable = renderable;
+        this.heartPool = heartPool;
         this.heartSize = heartSize;
-        this.livesCounter = livesCounter;
     }
 
     /**
-     * Calls super for brick removal. Creates a new Heart object  and adds it to gameObjects.
+     * Calls super for brick removal. Takes a heart from the pool, drops it from the brick's center and adds
+     * it to gameObjects.
      * @param object1 Brick.
      * @param object2 The second game object involved in the collision.
      */
@@ -44,9 +42,8 @@ public class HeartFallStrategy extends BasicCollisionStrategy implements Collisi
     public void onCollision(GameObject object1, GameObject object2) {
         Vector2 brickCenter = object1.getCenter();
         super.onCollision(object1, object2);
-        GameObject heart = new Heart(brickCenter, this.heartSize, this.renderable, HEART_VELOCITY,
-                this.livesCounter);
-        heart.setCenter(brickCenter);
+        Heart heart = this.heartPool.acquire();
+        heart.drop(brickCenter, this.heartSize, HEART_VELOCITY);
         this.gameObjects.addGameObject(heart);
     }
 }
@@ -1,41 +1,31 @@
 package bricker.brick_strategies;
 
-import static bricker.main.Constants.RAND_ALL_BOUND;
-import static bricker.main.Constants.RAND_SPECIAL_BOUND;
+import static bricker.main.Constants.*;
 
+import bricker.gameobjects.GameObjectPool;
+import bricker.gameobjects.Heart;
+import bricker.gameobjects.Puck;
+import bricker.main.GameRandom;
+import bricker.paddle_controllers.PaddleController;
 import danogl.GameManager;
 import danogl.collisions.GameObjectCollection;
-import danogl.gui.Sound;
-import danogl.gui.UserInputListener;
 import danogl.gui.WindowController;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
 
-import java.util.Random;
-
 
 /**
  * The StrategyFactory class is responsible for providing random collision strategies according to a
  * pre-defined probability.
+ * Strategies don't hold any per-brick state, so the factory creates a single shared instance of each
+ * strategy (and of each possible combination of a DoubleStrategy) and hands out the same instances to all
+ * bricks. Each instance has a byte id, which is what the brick field stores per brick.
  */
 public class StrategyFactory {
-    private final Random random;
-    private final GameManager gameManager;
-    private final GameObjectCollection gameObjects;
-    private final WindowController windowController;
-    private final Vector2 windowDimensions;
-    private final UserInputListener inputListener;
-    private final Renderable tempPaddleImage;
-    private final Vector2 extraPaddleSize;
-    private final Counter extraPaddleLives;
-    private final Renderable puckRenderable;
-    private final Sound puckSound;
-    private final Renderable heartRenderable;
-    private final Vector2 heartSize;
-    private final Counter livesCounter;
-    private final Counter hitsBeforeCameraChange;
-    private final Counter bricksLeft;
+    private final GameRandom random;
+    private final CollisionStrategy[] strategies;
+    private final byte[] doubleStrategyIds;
 
     /**
      * Constructor. All parameters given are passed to the strategies constructors.
@@ -43,43 +33,49 @@ public class StrategyFactory {
      * @param gameObjects            The collection of game objects.
      * @param windowController       Responsible for managing the game window.
      * @param windowDimensions       Window dimensions vector.
-     * @param userInputListener      Object responsible for tracking player's keyboard presses.
+     * @param paddleController       Decides where the temporary paddle moves in each frame.
      * @param tempPaddleRenderable   Image of the paddle.
      * @param tempPaddleSize         Size vector of the paddle.
      * @param tempPaddleLives        Counter that saves how many collisions with the paddle cause it to
      *                               disappear.
-     * @param puckRenderable         Image of the puck ball.
-     * @param puckSound              Sound when there's collision with a ball.
-     * @param heartRenderable        Image of the heart.
+     * @param puckPool               Pool of the puck balls.
+     * @param heartPool              Pool of the falling hearts.
      * @param heartSize              Size vector of the heart.
-     * @param livesCounter           Counter that saves the player's remaining lives.
      * @param hitsBeforeCameraChange Counter that saves how many hits the ball has had before current
      *                               collision.
      * @param bricksLeft             Counter that saves how many bricks are left in the game
      *                               (yet to collide with a ball).
+     * @param random                 Source of randomness of the game.
      */
     public StrategyFactory(GameManager gameManager, GameObjectCollection gameObjects,
                            WindowController windowController, Vector2 windowDimensions,
-                           UserInputListener userInputListener, Renderable tempPaddleRenderable,
-                           Vector2 tempPaddleSize, Counter tempPaddleLives, Renderable puckRenderable,
-                           Sound puckSound, Renderable heartRenderable, Vector2 heartSize,
-                           Counter livesCounter, Counter hitsBeforeCameraChange, Counter bricksLeft) {
-        this.random = new Random();
-        this.gameObjects = gameObjects;
-        this.gameManager = gameManager;
-        this.inputListener = userInputListener;
-        this.windowController = windowController;
-        this.tempPaddleImage = tempPaddleRenderable;
-        this.extraPaddleSize = tempPaddleSize;
-        this.windowDimensions = windowDimensions;
-        this.extraPaddleLives = tempPaddleLives;
-        this.puckRenderable = puckRenderable;
-        this.puckSound = puckSound;
-        this.heartRenderable = heartRenderable;
-        this.heartSize = heartSize;
-        this.livesCounter = livesCounter;
-        this.hitsBeforeCameraChange = hitsBeforeCameraChange;
-        this.bricksLeft = bricksLeft;
+                           PaddleController paddleController, Renderable tempPaddleRenderable,
+                           Vector2 tempPaddleSize, Counter tempPaddleLives, GameObjectPool<Puck> puckPool,
+                           GameObjectPool<Heart> heartPool, Vector2 heartSize,
+                           Counter hitsBeforeCameraChange, Counter bricksLeft, GameRandom random) {
+        this.random = random;
+        this.strategies = new CollisionStrategy[STRATEGY_IDS_COUNT];
+        this.doubleStrategyIds = new byte[DOUBLE_STRATEGY_CODES_COUNT];
+        // the basic and the special strategies
+        this.strategies[BASIC_STRATEGY_ID] = new BasicCollisionStrategy(gameObjects, bricksLeft);
+        this.strategies[PUCKS_STRATEGY_ID] = new PucksStrategy(gameObjects, puckPool, random,
+                bricksLeft);
+        this.strategies[CAMERA_STRATEGY_ID] = new CameraChangeStrategy(gameObjects, gameManager,
+                windowController, hitsBeforeCameraChange, bricksLeft);
+        this.strategies[TEMP_PADDLE_STRATEGY_ID] = new TempPaddleStrategy(gameObjects, tempPaddleSize,
+                tempPaddleRenderable, paddleController, windowDimensions, tempPaddleLives, bricksLeft);
+        this.strategies[HEART_STRATEGY_ID] = new HeartFallStrategy(gameObjects, heartPool, heartSize,
+                bricksLeft);
+        // every combination of 2 or 3 special strategies, ordered, starting at DOUBLE_STRATEGY_ID
+        byte nextId = DOUBLE_STRATEGY_ID;
+        for (byte first = PUCKS_STRATEGY_ID; first < DOUBLE_STRATEGY_ID; first++) {
+            for (byte second = first; second < DOUBLE_STRATEGY_ID; second++) {
+                nextId = addDoubleStrategy(nextId, gameObjects, bricksLeft, first, second, BASIC_STRATEGY_ID);
+                for (byte third = second; third < DOUBLE_STRATEGY_ID; third++) {
+                    nextId = addDoubleStrategy(nextId, gameObjects, bricksLeft, first, second, third);
+                }
+            }
+        }
     }
 
     /**
@@ -88,11 +84,18 @@ public class StrategyFactory {
      * 0.1 for each of the other strategies.
      */
     public CollisionStrategy getRandomStrategy() {
+        return this.getStrategy(this.getRandomStrategyId());
+    }
+
+    /**
+     * @return Id of a random collision strategy, with the same probabilities as getRandomStrategy.
+     */
+    public byte getRandomStrategyId() {
         int rand = this.random.nextInt(RAND_ALL_BOUND);
         if (rand == 0) {
-            return this.getRandomSpecialStrategy(RAND_SPECIAL_BOUND);
+            return this.getRandomSpecialStrategyId(RAND_SPECIAL_BOUND);
         }
-        return new BasicCollisionStrategy(this.gameObjects, this.bricksLeft);
+        return BASIC_STRATEGY_ID;
     }
 
     /**
@@ -100,23 +103,77 @@ public class StrategyFactory {
      * @return Random special collision strategy object with uniform probability.
      */
     public CollisionStrategy getRandomSpecialStrategy(int bound) {
-        int rand = this.random.nextInt(bound);
-        switch (rand) {
-            case 0:
-                return new PucksStrategy(this.gameObjects, this.puckRenderable, this.puckSound,
-                        this.bricksLeft);
-            case 1:
-                return new CameraChangeStrategy(this.gameObjects, this.gameManager, this.windowController,
-                        this.hitsBeforeCameraChange, this.bricksLeft);
-            case 2:
-                return new TempPaddleStrategy(this.gameObjects, this.extraPaddleSize, this.tempPaddleImage,
-                        this.inputListener, this.windowDimensions, this.extraPaddleLives, this.bricksLeft);
-            case 3:
-                return new HeartFallStrategy(this.gameObjects, this.heartRenderable, this.heartSize,
-                        this.livesCounter, this.bricksLeft);
-            case 4:
-                return new DoubleStrategy(this.gameObjects, this, this.bricksLeft);
+        return this.getStrategy(this.getRandomSpecialStrategyId(bound));
+    }
+
+    /**
+     * @param strategyId Id of a strategy, as returned by getRandomStrategyId.
+     * @return The shared collision strategy object with the given id, null if the id is unknown.
+     */
+    public CollisionStrategy getStrategy(byte strategyId) {
+        if (strategyId < 0 || strategyId >= this.strategies.length) {
+            return null;
+        }
+        return this.strategies[strategyId];
+    }
+
+    private byte getRandomSpecialStrategyId(int bound) {
+        // special strategies ids directly follow the basic strategy id, in the order of the bounds
+        byte strategyId = (byte) (PUCKS_STRATEGY_ID + this.random.nextInt(bound));
+        if (strategyId == DOUBLE_STRATEGY_ID) {
+            return this.getRandomDoubleStrategyId();
+        }
+        return strategyId;
+    }
+
+    private byte getRandomDoubleStrategyId() {
+        // if first strategy randomized is DoubleStrategy, randomize 2 strategies excluding DoubleStrategy
+        // instead of it, and exclude DoubleStrategy in the second one
+        int code = 0;
+        int bound = INCLUDE_DOUBLE_BOUND;
+        byte first = this.getRandomNonDoubleStrategyId(bound);
+        if (first == DOUBLE_STRATEGY_ID) {
+            bound = EXCLUDE_DOUBLE_BOUND;
+            code = addToCode(code, this.getRandomNonDoubleStrategyId(EXCLUDE_DOUBLE_BOUND));
+            code = addToCode(code, this.getRandomNonDoubleStrategyId(EXCLUDE_DOUBLE_BOUND));
+        } else {
+            code = addToCode(code, first);
+        }
+        // if second strategy randomized is DoubleStrategy, randomize 2 strategies excluding DoubleStrategy
+        byte second = this.getRandomNonDoubleStrategyId(bound);
+        if (second == DOUBLE_STRATEGY_ID) {
+            code = addToCode(code, this.getRandomNonDoubleStrategyId(EXCLUDE_DOUBLE_BOUND));
+            code = addToCode(code, this.getRandomNonDoubleStrategyId(EXCLUDE_DOUBLE_BOUND));
+        } else {
+            code = addToCode(code, second);
+        }
+        return this.doubleStrategyIds[code];
+    }
+
+    private byte getRandomNonDoubleStrategyId(int bound) {
+        // unlike getRandomSpecialStrategyId, DOUBLE_STRATEGY_ID is returned as is
+        return (byte) (PUCKS_STRATEGY_ID + this.random.nextInt(bound));
+    }
+
+    private byte addDoubleStrategy(byte strategyId, GameObjectCollection gameObjects, Counter bricksLeft,
+                                   byte first, byte second, byte third) {
+        this.strategies[strategyId] = new DoubleStrategy(gameObjects, bricksLeft, this.strategies[first],
+                this.strategies[second], third == BASIC_STRATEGY_ID ? null : this.strategies[third]);
+        int code = addToCode(addToCode(addToCode(0, first), second), third);
+        this.doubleStrategyIds[code] = strategyId;
+        return (byte) (strategyId + 1);
+    }
+
+    private static int addToCode(int code, byte strategyId) {
+        // a combination is coded by how many times each special strategy appears in it, with one base-4 digit
+        // per special strategy; the basic strategy id marks a missing third strategy and adds nothing
+        if (strategyId == BASIC_STRATEGY_ID) {
+            return code;
+        }
+        int digit = 1;
+        for (int i = PUCKS_STRATEGY_ID; i < strategyId; i++) {
+            digit *= MAX_DOUBLE_STRATEGIES + 1;
         }
-        return null;
+        return code + digit;
     }
 }
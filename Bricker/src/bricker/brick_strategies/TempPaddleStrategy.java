@@ -3,9 +3,9 @@ package bricker.brick_strategies;
 import static bricker.main.Constants.COLLISIONS_TO_DISAPPEAR;
 
 import bricker.gameobjects.TempPaddle;
+import bricker.paddle_controllers.PaddleController;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
-import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
@@ -19,7 +19,7 @@ import danogl.util.Vector2;
 public class TempPaddleStrategy extends BasicCollisionStrategy implements CollisionStrategy {
     private final Vector2 paddleSize;
     private final Renderable renderable;
-    private final UserInputListener inputListener;
+    private final PaddleController paddleController;
     private final Vector2 windowDimensions;
     private final Counter paddleLivesCounter;
 
@@ -28,18 +28,18 @@ public class TempPaddleStrategy extends BasicCollisionStrategy implements Collis
      * @param gameObjects The collection of game objects.
      * @param paddleSize Size vector of the paddle.
      * @param renderable Image of the paddle.
-     * @param inputListener Object responsible for tracking player's keyboard presses.
+     * @param paddleController Decides where the paddle moves in each frame.
      * @param windowDimensions Window dimensions vector.
      * @param paddleLivesCounter Counter that saves how many collisions till the paddle disappears.
      * @param bricksLeft Counter that saves how many bricks are left in the game (yet to collide with a ball).
      */
     public TempPaddleStrategy(GameObjectCollection gameObjects, Vector2 paddleSize, Renderable renderable,
-                              UserInputListener inputListener, Vector2 windowDimensions,
+                              PaddleController paddleController, Vector2 windowDimensions,
                               Counter paddleLivesCounter, Counter bricksLeft) {
         super(gameObjects, bricksLeft);
         this.paddleSize = paddleSize;
         this.renderable = renderable;
-        this.inputListener = inputListener;
+        this.paddleController = paddleController;
         this.windowDimensions = windowDimensions;
         this.paddleLivesCounter = paddleLivesCounter;
     }
@@ -61,7 +61,7 @@ public class TempPaddleStrategy extends BasicCollisionStrategy implements Collis
         Vector2 relocationVec = new Vector2(this.windowDimensions.x() - paddleSize.x(),
                 this.windowDimensions.y() * 0.5f);
         TempPaddle tempPaddle = new TempPaddle(windowDimensions.mult(0.5f), this.paddleSize,
-                this.renderable, this.inputListener, relocationVec, this.paddleLivesCounter);
+                this.renderable, this.paddleController, relocationVec, this.paddleLivesCounter);
         // add paddle to game objects
         this.gameObjects.addGameObject(tempPaddle);
         // reset paddleLivesCounter
@@ -1,5 +1,6 @@
 package bricker.gameobjects;
 
+import bricker.main.SweptCollisions;
 import danogl.GameObject;
 import danogl.collisions.Collision;
 import danogl.gui.Sound;
@@ -11,9 +12,10 @@ import danogl.util.Vector2;
  * The Ball class represents a ball in the game. It incorporates properties such as handling collisions,
  * triggering direction changes and making a sound, and also saves a counter for collisions.
  */
-public class Ball extends GameObject {
+public class Ball extends GameObject implements HasObjectKind {
     private int collisionCounter = 0;
     private final Sound collisionSound;
+    private SweptCollisions sweptCollisions;
 
     /**
      * Constructor.
@@ -27,6 +29,37 @@ public class Ball extends GameObject {
         this.collisionSound = collisionSound;
     }
 
+    /**
+     * Moves the ball in each frame, along its whole path in case collisions are swept.
+     * @param deltaTime The time elapsed, in seconds, since the last frame. Can
+     *                  be used to determine a new position/velocity by multiplying
+     *                  this delta with the velocity/acceleration respectively
+     *                  and adding to the position/velocity:
+     *                  velocity += deltaTime*acceleration
+     *                  pos += deltaTime*velocity
+     */
+    @Override
+    public void update(float deltaTime) {
+        if (this.sweptCollisions == null) {
+            super.update(deltaTime);
+            return;
+        }
+        // the rest of the update, without moving the ball, which is up to the swept collisions
+        super.update(0);
+        this.sweptCollisions.move(this, deltaTime);
+    }
+
+    /**
+     * Ensures that the ball doesn't collide through the engine with objects its swept collisions handle.
+     * @param other The other GameObject.
+     * @return true upon allowed collision and false otherwise.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return super.shouldCollideWith(other)
+                && (this.sweptCollisions == null || !this.sweptCollisions.handles(other));
+    }
+
     /**
      * Flips ball velocity, updates collisionCounter and plays collision sound.
      * @param other The GameObject with which a collision occurred.
@@ -37,8 +70,9 @@ public class Ball extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
-        Vector2 newVelocity = getVelocity().flipped(collision.getNormal());
-        setVelocity(newVelocity);
+        // flip the velocity in place, through the free calculations vector, instead of allocating a new one
+        this.freeCalculationsVector.setXY(getVelocity());
+        setVelocity(this.freeCalculationsVector.selfFlip(collision.getNormal()));
         this.collisionCounter++;
         this.collisionSound.play();
     }
@@ -49,4 +83,29 @@ public class Ball extends GameObject {
     public int getCollisionCounter(){
         return this.collisionCounter;
     }
+
+    /**
+     * Sets the number of collisions the ball has had, for when the ball is reused or restored.
+     * @param collisionCounter The new number of collisions.
+     */
+    public void setCollisionCounter(int collisionCounter) {
+        this.collisionCounter = collisionCounter;
+    }
+
+    /**
+     * Sets the swept collisions the ball moves through, so that it can't pass through bricks, borders and
+     * paddles in a single frame however fast it is.
+     * @param sweptCollisions The swept collisions of the game, null to move the ball through the engine.
+     */
+    public void setSweptCollisions(SweptCollisions sweptCollisions) {
+        this.sweptCollisions = sweptCollisions;
+    }
+
+    /**
+     * @return ObjectKind.BALL.
+     */
+    @Override
+    public ObjectKind getKind() {
+        return ObjectKind.BALL;
+    }
 }
@@ -1,5 +1,6 @@
 package bricker.gameobjects;
 
+import bricker.brick_strategies.BrickHitQueue;
 import bricker.brick_strategies.CollisionStrategy;
 import danogl.GameObject;
 import danogl.collisions.Collision;
@@ -11,8 +12,9 @@ import danogl.util.Vector2;
  * The Brick class represents a brick in the game. Handles collisions, triggering one/more of the strategies
  * defined in the strategies classes, allowing diverse interaction with collisions.
  */
-public class Brick extends GameObject {
+public class Brick extends GameObject implements HasObjectKind {
     private final CollisionStrategy collisionStrategy;
+    private final BrickHitQueue hitQueue;
 
     /**
      * Constructor.
@@ -23,12 +25,28 @@ public class Brick extends GameObject {
      */
     public Brick(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
                  CollisionStrategy collisionStrategy) {
+        this(topLeftCorner, dimensions, renderable, collisionStrategy, null);
+    }
+
+    /**
+     * Constructor.
+     * @param topLeftCorner The top-left corner position of the brick.
+     * @param dimensions Size vector of the brick.
+     * @param renderable Image of the brick.
+     * @param collisionStrategy Random strategy out of the strategies classes defined.
+     * @param hitQueue Queue the brick's hits are applied through at the end of the frame, null to apply
+     *                 them right away.
+     */
+    public Brick(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
+                 CollisionStrategy collisionStrategy, BrickHitQueue hitQueue) {
         super(topLeftCorner, dimensions, renderable);
         this.collisionStrategy = collisionStrategy;
+        this.hitQueue = hitQueue;
     }
 
     /**
-     * Triggers one/more of the strategies defined in the strategies classes. decrements bricksLeft.
+     * Triggers one/more of the strategies defined in the strategies classes. decrements bricksLeft. In case
+     * the brick has a hit queue, the strategy is only queued, and triggered at the end of the frame.
      * @param other The GameObject with which a collision occurred.
      * @param collision Information regarding this collision.
      *                  A reasonable elastic behavior can be achieved with:
@@ -37,6 +55,25 @@ public class Brick extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
-        this.collisionStrategy.onCollision(this, other);
+        if (this.hitQueue != null) {
+            this.hitQueue.add(this, other);
+        } else {
+            this.collisionStrategy.onCollision(this, other);
+        }
+    }
+
+    /**
+     * @return The collision strategy of the brick.
+     */
+    public CollisionStrategy getCollisionStrategy() {
+        return this.collisionStrategy;
+    }
+
+    /**
+     * @return ObjectKind.BRICK.
+     */
+    @Override
+    public ObjectKind getKind() {
+        return ObjectKind.BRICK;
     }
 }
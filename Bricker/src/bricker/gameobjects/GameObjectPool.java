@@ -0,0 +1,63 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+
+/**
+ * The GameObjectPool class keeps game objects that were removed from the game, so that they can be reused
+ * instead of creating new ones. The pool is bounded: objects released while it's full are left to the
+ * garbage collector. Acquired objects keep the state they were released with, so they must be reset by the
+ * caller before being added back to the game.
+ * @param <T> Type of the pooled game objects.
+ */
+public class GameObjectPool<T extends GameObject> {
+    private final ArrayDeque<T> freeObjects;
+    private final Supplier<T> factory;
+    private final int capacity;
+
+    /**
+     * Constructor.
+     * @param factory  Creates a new object when the pool is empty.
+     * @param capacity Maximal number of objects kept in the pool.
+     */
+    public GameObjectPool(Supplier<T> factory, int capacity) {
+        this.freeObjects = new ArrayDeque<>(capacity);
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return An object released to the pool, or a new one if the pool is empty.
+     */
+    public T acquire() {
+        T obj = this.freeObjects.pollLast();
+        if (obj == null) {
+            return this.factory.get();
+        }
+        return obj;
+    }
+
+    /**
+     * Returns an object to the pool. The object must already be removed from the game objects collection;
+     * since removals take effect at the start of the next frame, it shouldn't be added back before then.
+     * @param obj The object to release.
+     * @return true if the object was kept in the pool, false if the pool is full.
+     */
+    public boolean release(T obj) {
+        if (this.freeObjects.size() >= this.capacity) {
+            return false;
+        }
+        this.freeObjects.addLast(obj);
+        return true;
+    }
+
+    /**
+     * @return Number of objects currently waiting in the pool.
+     */
+    public int size() {
+        return this.freeObjects.size();
+    }
+}
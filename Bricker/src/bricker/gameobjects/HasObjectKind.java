@@ -0,0 +1,13 @@
+package bricker.gameobjects;
+
+
+/**
+ * The HasObjectKind interface is implemented by the game object classes of the game, each one reporting its
+ * constant ObjectKind.
+ */
+public interface HasObjectKind {
+    /**
+     * @return The kind of this object.
+     */
+    ObjectKind getKind();
+}
@@ -1,8 +1,5 @@
 package bricker.gameobjects;
 
-import static bricker.main.Constants.PADDLE;
-import static bricker.main.Constants.TEMP_PADDLE;
-
 import danogl.GameObject;
 import danogl.collisions.Collision;
 import danogl.gui.rendering.Renderable;
@@ -13,7 +10,7 @@ import danogl.util.Vector2;
 /**
  * The Heart class represents a heart-shaped game objects that symbolize the player's lives within the game.
  */
-public class Heart extends GameObject {
+public class Heart extends GameObject implements HasObjectKind {
     private final Counter livesCounter;
 
     /**
@@ -48,8 +45,7 @@ public class Heart extends GameObject {
      */
     @Override
     public boolean shouldCollideWith(GameObject other) {
-        return super.shouldCollideWith(other) && other.getTag().equals(PADDLE)
-                && !(other.getTag().equals(TEMP_PADDLE));
+        return super.shouldCollideWith(other) && ObjectKind.of(other) == ObjectKind.PADDLE;
     }
 
     /**
@@ -69,6 +65,31 @@ public class Heart extends GameObject {
         }
         // if paddle collides with heart, increment livesCounter
         this.livesCounter.increment();
+        // resizing keeps the center through the engine's shared vector, so it's placed again (see drop)
+        float centerX = getTopLeftCorner().x() + getDimensions().x() * 0.5f;
+        float centerY = getTopLeftCorner().y() + getDimensions().y() * 0.5f;
         this.setDimensions(Vector2.ZERO);
+        transform().setCenter(centerX, centerY);
+    }
+
+    /**
+     * Prepares a heart taken from a pool to fall again: places it at the given center and restores its size
+     * (which is zeroed once the heart is caught) and velocity.
+     * @param center The new center of the heart.
+     * @param dimensions Size vector of the heart.
+     * @param velocity Velocity vector of the falling heart.
+     */
+    public void drop(Vector2 center, Vector2 dimensions, Vector2 velocity) {
+        setDimensions(dimensions);
+        transform().setCenter(center.x(), center.y());
+        setVelocity(velocity);
+    }
+
+    /**
+     * @return ObjectKind.HEART.
+     */
+    @Override
+    public ObjectKind getKind() {
+        return ObjectKind.HEART;
     }
 }
@@ -0,0 +1,40 @@
+package bricker.gameobjects;
+
+import bricker.main.ObservableCounter;
+import danogl.GameObject;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+
+/**
+ * The NumberDisplay class shows the value of a counter on the player's screen, such as the lives or the
+ * bricks left. It listens to the counter and only switches to the renderable of the new value when the value
+ * changes, so a value that doesn't change costs nothing per frame. The renderables of the values come from a
+ * NumberRenderables, and values out of its range are shown by a renderable created when they're reached.
+ */
+public class NumberDisplay extends GameObject {
+    private final NumberRenderables renderables;
+
+    /**
+     * Constructor.
+     * @param counter The counter whose value is displayed.
+     * @param topLeftCorner The top-left corner position of the display.
+     * @param dimensions Size vector of the display; its height is the height of the text.
+     * @param renderables The renderables of the values.
+     */
+    public NumberDisplay(ObservableCounter counter, Vector2 topLeftCorner, Vector2 dimensions,
+                         NumberRenderables renderables) {
+        super(topLeftCorner, dimensions, null);
+        this.renderables = renderables;
+        show(counter.value());
+        counter.addListener((oldValue, newValue) -> show(newValue));
+    }
+
+    private void show(int value) {
+        Renderable renderable = this.renderables.get(value);
+        if (renderable == null) {
+            renderable = this.renderables.create(value);
+        }
+        renderer().setRenderable(renderable);
+    }
+}
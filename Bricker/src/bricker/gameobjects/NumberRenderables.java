@@ -0,0 +1,57 @@
+package bricker.gameobjects;
+
+import danogl.gui.rendering.TextRenderable;
+
+import java.awt.*;
+import java.util.function.IntFunction;
+
+
+/**
+ * The NumberRenderables class keeps a text renderable for each number of a range, so that a number shown on
+ * the screen is drawn from a renderable built once, instead of a string being formatted and laid out again
+ * whenever the number changes. Each renderable is built the first time its number is needed, and is kept
+ * for every game played afterwards.
+ */
+public class NumberRenderables {
+    private final int minValue;
+    private final TextRenderable[] renderables;
+    private final IntFunction<Color> colors;
+
+    /**
+     * Constructor.
+     * @param minValue The smallest number kept.
+     * @param maxValue The largest number kept.
+     * @param colors   Gives the color each number is shown in.
+     */
+    public NumberRenderables(int minValue, int maxValue, IntFunction<Color> colors) {
+        this.minValue = minValue;
+        this.renderables = new TextRenderable[maxValue - minValue + 1];
+        this.colors = colors;
+    }
+
+    /**
+     * @param value A number.
+     * @return The renderable of the number, null if it's out of the kept range.
+     */
+    public TextRenderable get(int value) {
+        int index = value - this.minValue;
+        if (index < 0 || index >= this.renderables.length) {
+            return null;
+        }
+        if (this.renderables[index] == null) {
+            this.renderables[index] = create(value);
+        }
+        return this.renderables[index];
+    }
+
+    /**
+     * Creates a renderable of a number, whether it's in the kept range or not. The renderable isn't kept.
+     * @param value A number.
+     * @return A new renderable showing the number in its color.
+     */
+    public TextRenderable create(int value) {
+        TextRenderable renderable = new TextRenderable(Integer.toString(value));
+        renderable.setColor(this.colors.apply(value));
+        return renderable;
+    }
+}
@@ -0,0 +1,50 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+
+
+/**
+ * The ObjectKind enum identifies the kind of a game object. Collision filters and strategies compare kinds
+ * by identity, instead of comparing the string tags defined in Constants, which are kept for compatibility.
+ */
+public enum ObjectKind {
+    /**
+     * The main ball.
+     */
+    BALL,
+    /**
+     * A puck ball.
+     */
+    PUCK,
+    /**
+     * The main paddle.
+     */
+    PADDLE,
+    /**
+     * The temporary paddle.
+     */
+    TEMP_PADDLE,
+    /**
+     * A brick.
+     */
+    BRICK,
+    /**
+     * A heart, either falling or part of the graphical lives counter.
+     */
+    HEART,
+    /**
+     * Any other object, such as the borders and the background.
+     */
+    OTHER;
+
+    /**
+     * @param obj A game object.
+     * @return The kind of the object, OTHER if it doesn't have one.
+     */
+    public static ObjectKind of(GameObject obj) {
+        if (obj instanceof HasObjectKind) {
+            return ((HasObjectKind) obj).getKind();
+        }
+        return OTHER;
+    }
+}
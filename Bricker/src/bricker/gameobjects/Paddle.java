@@ -1,21 +1,20 @@
 package bricker.gameobjects;
 
-import static bricker.main.Constants.PADDLE_SPEED;
+import static bricker.main.Constants.PADDLE_LEFT_VELOCITY;
+import static bricker.main.Constants.PADDLE_RIGHT_VELOCITY;
 
+import bricker.paddle_controllers.PaddleController;
 import danogl.GameObject;
-import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
-import java.awt.event.KeyEvent;
-
 
 /**
  * The Paddle class represents the player-controlled paddle within the game. It incorporates properties such
- * as responding to user input, initial velocity.
+ * as moving where its controller (the player's keyboard or a bot) tells it, initial velocity.
  */
-public class Paddle extends GameObject {
-    private final UserInputListener inputListener;
+public class Paddle extends GameObject implements HasObjectKind {
+    private final PaddleController controller;
     private final Vector2 relocationVec;
 
     /**
@@ -23,14 +22,14 @@ public class Paddle extends GameObject {
      * @param topLeftCorner The top-left corner position of the paddle.
      * @param dimensions Size vector of the paddle.
      * @param renderable Image of the paddle.
-     * @param inputListener Object responsible for tracking player's keyboard presses.
+     * @param controller Decides where the paddle moves in each frame.
      * @param relocationVec Vector that contains coordinates to locate paddle in, in case paddle is out of
      *                      window bounds.
      */
     public Paddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
-                  UserInputListener inputListener, Vector2 relocationVec) {
+                  PaddleController controller, Vector2 relocationVec) {
         super(topLeftCorner, dimensions, renderable);
-        this.inputListener = inputListener;
+        this.controller = controller;
         this.relocationVec = relocationVec;
     }
 
@@ -50,27 +49,35 @@ public class Paddle extends GameObject {
         setPaddleVelocity();
     }
 
+    /**
+     * @return ObjectKind.PADDLE.
+     */
+    @Override
+    public ObjectKind getKind() {
+        return ObjectKind.PADDLE;
+    }
+
     private void relocatePaddleOutOfWindow() {
-        // in case of reaching window bounds
+        // in case of reaching window bounds. the transform copies the coordinates, so nothing is allocated
         if (this.getTopLeftCorner().x() < 0)
         {
-            this.setTopLeftCorner(new Vector2(0, this.relocationVec.y()));
+            this.transform().setTopLeftCorner(0, this.relocationVec.y());
         }
         else if (this.getTopLeftCorner().x() > this.relocationVec.x())
         {
-            this.setTopLeftCorner(new Vector2(this.relocationVec.x(), this.relocationVec.y()));
+            this.transform().setTopLeftCorner(this.relocationVec.x(), this.relocationVec.y());
         }
     }
 
     private void setPaddleVelocity() {
-        // changes paddle velocity according to player's keyboard presses
-        Vector2 movDirection = Vector2.ZERO;
-        if (inputListener.isKeyPressed(KeyEvent.VK_LEFT)){
-            movDirection = movDirection.add(Vector2.LEFT);
-        }
-        if (inputListener.isKeyPressed(KeyEvent.VK_RIGHT)){
-            movDirection = movDirection.add(Vector2.RIGHT);
+        // changes paddle velocity according to the controller's direction, using the precomputed velocities
+        int direction = this.controller.getDirection(this);
+        if (direction == 0) {
+            setVelocity(Vector2.ZERO);
+        } else if (direction < 0) {
+            setVelocity(PADDLE_LEFT_VELOCITY);
+        } else {
+            setVelocity(PADDLE_RIGHT_VELOCITY);
         }
-        setVelocity(movDirection.mult(PADDLE_SPEED));
     }
 }
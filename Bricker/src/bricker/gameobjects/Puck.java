@@ -2,12 +2,12 @@ package bricker.gameobjects;
 
 import static bricker.main.Constants.*;
 
+import bricker.main.GameRandom;
+import bricker.main.ViewCulling;
 import danogl.gui.Sound;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
-import java.util.Random;
-
 
 /**
  * The Puck class represents a puck ball object in the game. This puck serves as a power-up that grants the
@@ -15,6 +15,9 @@ import java.util.Random;
  * playing collision sounds. Inherits from Ball.
  */
 public class Puck extends Ball{
+    private ViewCulling viewCulling;
+    private float skippedTime;
+
     /**
      * Constructor.
      * @param topLeftCorner The top-left corner position of the puck.
@@ -25,11 +28,60 @@ public class Puck extends Ball{
         super(topLeftCorner, BALL_DIAMETER_VEC.mult(0.75f), renderable, collisionSound);
         // set tag, for managing collisions
         this.setTag(PUCK);
+    }
+
+    /**
+     * Prepares the puck to be added to the game, whether it's new or taken from a pool: places it at the
+     * given center, gives it a random direction and resets its collision counter.
+     * @param center The new center of the puck.
+     * @param random Used to randomize the puck's direction.
+     */
+    public void launch(Vector2 center, GameRandom random) {
+        transform().setCenter(center.x(), center.y());
         // set random velocity to one of the vectors in upper half of unit circle
-        Random rand = new Random();
-        double angle = rand.nextDouble() * Math.PI;
+        double angle = random.nextDouble() * Math.PI;
         float puckVelocityX = (float)Math.cos(angle) * BALL_SPEED;
         float puckVelocityY = (float)Math.sin(angle) * BALL_SPEED;
         setVelocity(new Vector2(puckVelocityX, puckVelocityY));
+        setCollisionCounter(0);
+        clearSkippedTime();
+    }
+
+    /**
+     * Moves the puck in each frame, unless it's far outside the view and its view culling skips its update;
+     * the time of skipped updates is added to the next update.
+     * @param deltaTime The time elapsed, in seconds, since the last frame.
+     */
+    @Override
+    public void update(float deltaTime) {
+        if (this.viewCulling != null && this.viewCulling.skipsUpdate(this)) {
+            this.skippedTime += deltaTime;
+            return;
+        }
+        super.update(deltaTime + this.skippedTime);
+        this.skippedTime = 0;
+    }
+
+    /**
+     * Sets the view culling that decides whether the puck skips updates while it's far outside the view.
+     * @param viewCulling The view culling of the game, null to update the puck in every frame.
+     */
+    public void setViewCulling(ViewCulling viewCulling) {
+        this.viewCulling = viewCulling;
+    }
+
+    /**
+     * Drops the time of the updates the puck skipped, for when the puck is placed again (see launch).
+     */
+    public void clearSkippedTime() {
+        this.skippedTime = 0;
+    }
+
+    /**
+     * @return ObjectKind.PUCK.
+     */
+    @Override
+    public ObjectKind getKind() {
+        return ObjectKind.PUCK;
     }
 }
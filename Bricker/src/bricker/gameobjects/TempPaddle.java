@@ -2,9 +2,9 @@ package bricker.gameobjects;
 
 import static bricker.main.Constants.*;
 
+import bricker.paddle_controllers.PaddleController;
 import danogl.GameObject;
 import danogl.collisions.Collision;
-import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
@@ -13,7 +13,7 @@ import danogl.util.Vector2;
 /**
  * The TempPaddle class represent a temporary paddle in the game. This temporary paddle serves as a
  * power-up that grants the player an additional limited-time paddle. It incorporates properties such
- * as responding to user input for movement and handling collisions with other game objects.
+ * as moving where its controller tells it and handling collisions with other game objects.
  */
 public class TempPaddle extends Paddle {
     private final Counter paddleLivesCounter;
@@ -23,15 +23,15 @@ public class TempPaddle extends Paddle {
      * @param topLeftCorner The top-left corner position of the temporary paddle.
      * @param dimensions Size vector of the paddle.
      * @param renderable Image of the paddle.
-     * @param inputListener Object responsible for tracking player's keyboard presses.
+     * @param controller Decides where the paddle moves in each frame.
      * @param relocationVec Vector that contains coordinates to locate paddle in, in case paddle is out of
      *                      window bounds.
      * @param paddleLivesCounter Counter that saves how many collisions till the paddle disappears.
      */
     public TempPaddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
-                      UserInputListener inputListener, Vector2 relocationVec,
+                      PaddleController controller, Vector2 relocationVec,
                       Counter paddleLivesCounter) {
-        super(topLeftCorner, dimensions, renderable, inputListener, relocationVec);
+        super(topLeftCorner, dimensions, renderable, controller, relocationVec);
         this.paddleLivesCounter = paddleLivesCounter;
         // set tag for the temp paddle, for managing collisions
         this.setTag(TEMP_PADDLE);
@@ -44,9 +44,9 @@ public class TempPaddle extends Paddle {
      */
     @Override
     public boolean shouldCollideWith(GameObject other) {
-        String otherTag = other.getTag();
-        return super.shouldCollideWith(other) && (otherTag.equals(BALL)
-                || (otherTag.equals(PUCK)));
+        ObjectKind otherKind = ObjectKind.of(other);
+        return super.shouldCollideWith(other) && (otherKind == ObjectKind.BALL
+                || otherKind == ObjectKind.PUCK);
     }
 
     /**
@@ -61,4 +61,12 @@ public class TempPaddle extends Paddle {
         super.onCollisionEnter(other, collision);
         this.paddleLivesCounter.decrement();
     }
+
+    /**
+     * @return ObjectKind.TEMP_PADDLE.
+     */
+    @Override
+    public ObjectKind getKind() {
+        return ObjectKind.TEMP_PADDLE;
+    }
 }
@@ -0,0 +1,193 @@
+package bricker.headless;
+
+import static bricker.main.Constants.*;
+
+import bricker.main.BrickerGameManager;
+import bricker.main.GameRandom;
+import bricker.paddle_controllers.AutopilotPaddleController;
+import bricker.paddle_controllers.BallFollowingPaddleController;
+import bricker.paddle_controllers.PaddleController;
+import danogl.util.Vector2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+
+/**
+ * The BatchRunner class plays many independent headless games concurrently, with the paddles moved by a
+ * controller instead of a player, and sums up how well the controller did (see BatchStatistics).
+ * Each worker thread has a game of its own (its own objects, counters and randomness), which it restarts
+ * for each of the games it plays, so nothing is shared between the threads while they play. The games use
+ * swept collisions (see SweptCollisions), so they can be stepped at large time steps. Worker i is
+ * seeded with the batch's seed plus i, so a batch is reproduced by the same seed and number of threads.
+ * The engine's Transform.setCenter(Vector2) goes through a static scratch vector, shared by all the games
+ * of the process, and so does every resize, which keeps the object's center through it. The games only
+ * move objects by center through the float overload, including the headless camera, which the game manager
+ * moves itself instead of calling Camera.update. A resized object is placed again right after the resize,
+ * by center or by top-left corner (see Heart and GameSnapshot).
+ */
+public class BatchRunner {
+    private final Vector2 windowDimensions;
+    private final int brickRows;
+    private final int brickCols;
+    private final long maxFrames;
+    private final float deltaTime;
+    private final Function<BrickerGameManager, PaddleController> controllerFactory;
+
+    /**
+     * Constructor.
+     * @param windowDimensions  The dimensions of the simulated game window.
+     * @param brickRows         The number of rows for the bricks layout.
+     * @param brickCols         The number of columns for the bricks layout.
+     * @param maxFrames         Maximal number of frames of each game, after which it's counted as timed out.
+     * @param deltaTime         The fixed time, in seconds, that passes in each simulated frame.
+     * @param controllerFactory Creates the paddle controller of each worker's game.
+     */
+    public BatchRunner(Vector2 windowDimensions, int brickRows, int brickCols, long maxFrames,
+                       float deltaTime, Function<BrickerGameManager, PaddleController> controllerFactory) {
+        this.windowDimensions = windowDimensions;
+        this.brickRows = brickRows;
+        this.brickCols = brickCols;
+        this.maxFrames = maxFrames;
+        this.deltaTime = deltaTime;
+        this.controllerFactory = controllerFactory;
+    }
+
+    /**
+     * Plays the games of the batch, and waits for all of them to end.
+     * @param games   Number of games to play.
+     * @param threads Number of worker threads to play them on.
+     * @param seed    Seed of the batch's randomness.
+     * @return Statistics of all the games played.
+     * @throws InterruptedException If interrupted while waiting for the games to end.
+     */
+    public BatchStatistics run(int games, int threads, long seed) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<BatchStatistics>> workers = new ArrayList<>(threads);
+        // the games are split as evenly as possible between the workers
+        for (int i = 0; i < threads; i++) {
+            int workerGames = games / threads + (i < games % threads ? 1 : 0);
+            long workerSeed = seed + i;
+            workers.add(executor.submit(() -> playGames(workerGames, workerSeed)));
+        }
+        executor.shutdown();
+        BatchStatistics statistics = new BatchStatistics();
+        try {
+            for (Future<BatchStatistics> worker : workers) {
+                statistics.merge(worker.get());
+            }
+        } catch (ExecutionException e) {
+            executor.shutdownNow();
+            throw new IllegalStateException("A game of the batch failed", e.getCause());
+        }
+        return statistics;
+    }
+
+    /**
+     * The entry point for evaluating a paddle controller over a batch of games.
+     * @param args Command-line arguments: number of games, then number of threads (optional), then the
+     *             controller, AUTOPILOT_CONTROLLER_ARG, FOLLOWING_CONTROLLER_ARG or IDLE_CONTROLLER_ARG
+     *             (optional), then cols and rows (optional), then the seed (optional), then the time step
+     *             in seconds (optional).
+     * @throws InterruptedException If interrupted while waiting for the games to end.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        // default settings
+        int games = BATCH_DEFAULT_GAMES;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String controller = FOLLOWING_CONTROLLER_ARG;
+        int bricks_cols = DEFAULT_BRICKS_COLS;
+        int bricks_rows = DEFAULT_BRICKS_ROWS;
+        long seed = GameRandom.randomSeed();
+        float deltaTime = FIXED_DELTA_TIME;
+        if (args.length >= 1) {
+            games = Integer.parseInt(args[0]);
+        }
+        if (args.length >= 2) {
+            threads = Integer.parseInt(args[1]);
+        }
+        if (args.length >= 3) {
+            controller = args[2];
+        }
+        // change defaults in case rows and cols were given, same order as in BrickerGameManager
+        if (args.length >= 5) {
+            bricks_cols = Integer.parseInt(args[3]);
+            bricks_rows = Integer.parseInt(args[4]);
+        }
+        if (args.length >= 6) {
+            seed = Long.parseLong(args[5]);
+        }
+        if (args.length >= 7) {
+            deltaTime = Float.parseFloat(args[6]);
+        }
+        Vector2 windowDimensions = new Vector2(WINDOW_X, WINDOW_Y);
+        BatchRunner runner = new BatchRunner(windowDimensions, bricks_rows, bricks_cols,
+                BATCH_DEFAULT_MAX_FRAMES, deltaTime, controllerFactory(controller, windowDimensions));
+        long startTime = System.nanoTime();
+        BatchStatistics statistics = runner.run(games, threads, seed);
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        System.out.printf("Played %d games on %d threads in %.3f seconds, seed %d%n",
+                statistics.getGames(), threads, seconds, seed);
+        System.out.printf("Won %d, lost %d, timed out %d: win rate %.2f%%%n", statistics.getWins(),
+                statistics.getLosses(), statistics.getTimeouts(), statistics.getWinRate() * 100);
+        System.out.printf("Frames to clear: average %.0f, min %d, max %d%n",
+                statistics.getAverageFramesToClear(), statistics.getMinFramesToClear(),
+                statistics.getMaxFramesToClear());
+        System.out.printf("Throughput: %.0f frames per second, %.1f games per second%n",
+                statistics.getTotalFrames() / seconds, statistics.getGames() / seconds);
+    }
+
+    /**
+     * @param controller       Name of a bot, as given on the command line.
+     * @param windowDimensions The dimensions of the game window.
+     * @return Creates the bot for a given game.
+     */
+    static Function<BrickerGameManager, PaddleController> controllerFactory(String controller,
+                                                                             Vector2 windowDimensions) {
+        switch (controller) {
+            case AUTOPILOT_CONTROLLER_ARG:
+                return gameManager -> new AutopilotPaddleController(gameManager::getBall,
+                        windowDimensions);
+            case FOLLOWING_CONTROLLER_ARG:
+                return gameManager -> new BallFollowingPaddleController(gameManager::getBall);
+            case IDLE_CONTROLLER_ARG:
+                return gameManager -> paddle -> 0;
+            default:
+                throw new IllegalArgumentException("Unknown paddle controller: " + controller);
+        }
+    }
+
+    private BatchStatistics playGames(int games, long seed) {
+        BrickerGameManager gameManager = new BrickerGameManager(WINDOW_TITLE, this.windowDimensions,
+                this.brickRows, this.brickCols, true, new GameRandom(seed));
+        gameManager.setPaddleController(this.controllerFactory.apply(gameManager));
+        gameManager.setSweptCollisions(true);
+        // the game restarts itself when it ends, so a single game serves all the games of the worker
+        HeadlessSimulation simulation = new HeadlessSimulation(gameManager, this.windowDimensions,
+                this.deltaTime, true, seed);
+        BatchStatistics statistics = new BatchStatistics();
+        for (int i = 0; i < games; i++) {
+            int gamesPlayed = gameManager.getGamesPlayed();
+            int gamesWon = gameManager.getGamesWon();
+            long frames = 0;
+            while (frames < this.maxFrames && gameManager.getGamesPlayed() == gamesPlayed) {
+                simulation.step();
+                frames++;
+            }
+            if (gameManager.getGamesPlayed() == gamesPlayed) {
+                statistics.addTimeout(frames);
+                gameManager.restartGame();
+            } else if (gameManager.getGamesWon() > gamesWon) {
+                statistics.addWin(frames);
+            } else {
+                statistics.addLoss(frames);
+            }
+        }
+        return statistics;
+    }
+}
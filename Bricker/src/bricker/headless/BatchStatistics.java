@@ -0,0 +1,125 @@
+package bricker.headless;
+
+
+/**
+ * The BatchStatistics class sums up the outcomes of the games of a batch run (see BatchRunner). Each worker
+ * thread fills statistics of its own, which are merged once all the games are over, so nothing is shared
+ * between the threads while they play.
+ */
+public class BatchStatistics {
+    private int wins;
+    private int losses;
+    private int timeouts;
+    private long totalFrames;
+    private long framesToClear;
+    private long minFramesToClear = Long.MAX_VALUE;
+    private long maxFramesToClear;
+
+    /**
+     * Adds a game that was won, by clearing all its bricks.
+     * @param frames Number of frames the game took.
+     */
+    public void addWin(long frames) {
+        this.wins++;
+        this.totalFrames += frames;
+        this.framesToClear += frames;
+        this.minFramesToClear = Math.min(this.minFramesToClear, frames);
+        this.maxFramesToClear = Math.max(this.maxFramesToClear, frames);
+    }
+
+    /**
+     * Adds a game that was lost.
+     * @param frames Number of frames the game took.
+     */
+    public void addLoss(long frames) {
+        this.losses++;
+        this.totalFrames += frames;
+    }
+
+    /**
+     * Adds a game that was stopped before it was either won or lost.
+     * @param frames Number of frames the game took.
+     */
+    public void addTimeout(long frames) {
+        this.timeouts++;
+        this.totalFrames += frames;
+    }
+
+    /**
+     * Adds all the games of other statistics to these ones.
+     * @param other Statistics of other games.
+     */
+    public void merge(BatchStatistics other) {
+        this.wins += other.wins;
+        this.losses += other.losses;
+        this.timeouts += other.timeouts;
+        this.totalFrames += other.totalFrames;
+        this.framesToClear += other.framesToClear;
+        this.minFramesToClear = Math.min(this.minFramesToClear, other.minFramesToClear);
+        this.maxFramesToClear = Math.max(this.maxFramesToClear, other.maxFramesToClear);
+    }
+
+    /**
+     * @return Number of games played.
+     */
+    public int getGames() {
+        return this.wins + this.losses + this.timeouts;
+    }
+
+    /**
+     * @return Number of games won.
+     */
+    public int getWins() {
+        return this.wins;
+    }
+
+    /**
+     * @return Number of games lost.
+     */
+    public int getLosses() {
+        return this.losses;
+    }
+
+    /**
+     * @return Number of games stopped before they were either won or lost.
+     */
+    public int getTimeouts() {
+        return this.timeouts;
+    }
+
+    /**
+     * @return Number of frames simulated, over all games.
+     */
+    public long getTotalFrames() {
+        return this.totalFrames;
+    }
+
+    /**
+     * @return Fraction of the games that were won, 0 if no game was played.
+     */
+    public double getWinRate() {
+        int games = getGames();
+        return games == 0 ? 0 : (double) this.wins / games;
+    }
+
+    /**
+     * @return Average number of frames it took to clear the bricks of a won game, 0 if no game was won.
+     */
+    public double getAverageFramesToClear() {
+        return this.wins == 0 ? 0 : (double) this.framesToClear / this.wins;
+    }
+
+    /**
+     * @return Least number of frames it took to clear the bricks of a won game, 0 if no game was won.
+     */
+    public long getMinFramesToClear() {
+        return this.wins == 0 ? 0 : this.minFramesToClear;
+    }
+
+    /**
+     * @return Most number of frames it took to clear the bricks of a won game, 0 if no game was won.
+     */
+    public long getMaxFramesToClear() {
+        return this.maxFramesToClear;
+    }
+}
@@ -0,0 +1,34 @@
+package bricker.headless;
+
+import danogl.gui.ImageReader;
+import danogl.gui.MessageHandler;
+import danogl.gui.rendering.ImageRenderable;
+import danogl.util.Vector2;
+
+
+/**
+ * The HeadlessImageReader class stands in for ImageReader when the game runs without a window. Nothing is
+ * read from disk; every request returns the library's default image, since headless games are never drawn.
+ */
+public class HeadlessImageReader extends ImageReader {
+    /**
+     * Constructor.
+     * @param messages Handler used for reporting messages.
+     */
+    public HeadlessImageReader(MessageHandler messages) {
+        super(messages);
+    }
+
+    /**
+     * @param path Relative or absolute path of the image (ignored).
+     * @param isTopLeftPixelTransparency Whether the top-left pixel is background (ignored).
+     * @param cropTopLeft Top-left crop coordinates (ignored).
+     * @param cropBottomRight Bottom-right crop coordinates (ignored).
+     * @return The default image of the library.
+     */
+    @Override
+    public ImageRenderable readImage(String path, boolean isTopLeftPixelTransparency,
+                                     Vector2 cropTopLeft, Vector2 cropBottomRight) {
+        return ImageRenderable.DEFAULT_IMAGE;
+    }
+}
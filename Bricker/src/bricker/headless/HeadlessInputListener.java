@@ -0,0 +1,116 @@
+package bricker.headless;
+
+import danogl.components.movement_schemes.movement_directing.KeyboardMovementDirector;
+import danogl.components.movement_schemes.movement_directing.MouseMovementDirector;
+import danogl.gui.UserInputListener;
+import danogl.gui.mouse.MouseButton;
+import danogl.gui.rendering.Camera;
+import danogl.util.Vector2;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+
+/**
+ * The HeadlessInputListener class stands in for the keyboard when the game runs without a window. Keys are
+ * pressed and released programmatically; the mouse is never used by the game and is reported as idle.
+ */
+public class HeadlessInputListener implements UserInputListener {
+    private final Set<Integer> pressedKeys;
+
+    /**
+     * Constructor. No key is pressed initially.
+     */
+    public HeadlessInputListener() {
+        this.pressedKeys = new HashSet<>();
+    }
+
+    /**
+     * Marks a key as pressed until it is released.
+     * @param keyFromKeyEvent Key code, as defined in KeyEvent.
+     */
+    public void pressKey(int keyFromKeyEvent) {
+        this.pressedKeys.add(keyFromKeyEvent);
+    }
+
+    /**
+     * Marks a key as released.
+     * @param keyFromKeyEvent Key code, as defined in KeyEvent.
+     */
+    public void releaseKey(int keyFromKeyEvent) {
+        this.pressedKeys.remove(keyFromKeyEvent);
+    }
+
+    /**
+     * Releases all pressed keys.
+     */
+    public void releaseAllKeys() {
+        this.pressedKeys.clear();
+    }
+
+    @Override
+    public boolean isKeyPressed(int keyFromKeyEvent) {
+        return this.pressedKeys.contains(keyFromKeyEvent);
+    }
+
+    @Override
+    public boolean wasKeyPressedThisFrame(int keyFromKeyEvent) {
+        return false;
+    }
+
+    @Override
+    public boolean wasKeyReleasedThisFrame(int keyFromKeyEvent) {
+        return false;
+    }
+
+    @Override
+    public boolean wasMouseButtonClickedThisFrame(MouseButton button) {
+        return false;
+    }
+
+    @Override
+    public boolean wasMouseButtonPressedThisFrame(MouseButton button) {
+        return false;
+    }
+
+    @Override
+    public boolean wasMouseButtonReleasedThisFrame(MouseButton button) {
+        return false;
+    }
+
+    @Override
+    public boolean isMouseButtonPressed(MouseButton button) {
+        return false;
+    }
+
+    @Override
+    public Vector2 getMouseScreenPos() {
+        return Vector2.ZERO;
+    }
+
+    @Override
+    public double mouseWheelClicksThisFrame() {
+        return 0;
+    }
+
+    @Override
+    public Set<Integer> pressedKeys() {
+        return Collections.unmodifiableSet(this.pressedKeys);
+    }
+
+    @Override
+    public Set<MouseButton> pressedMouseButtons() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public MouseMovementDirector mouseMovementDirector(Camera camera) {
+        return null;
+    }
+
+    @Override
+    public KeyboardMovementDirector keyboardMovementDirector() {
+        return null;
+    }
+}
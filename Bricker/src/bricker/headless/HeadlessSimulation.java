@@ -0,0 +1,218 @@
+package bricker.headless;
+
+import static bricker.main.Constants.*;
+
+import bricker.main.BrickerGameManager;
+import bricker.main.GameRandom;
+import bricker.profiling.FrameProfiler;
+import bricker.profiling.MetricsExporter;
+import bricker.replay.InputReplayer;
+import danogl.util.Vector2;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+
+/**
+ * The HeadlessSimulation class runs a Bricker game without a window, stepping its update logic at a fixed
+ * timestep as fast as possible. It plays the role the engine's GUI component plays in a regular run: it
+ * supplies the readers, input and window controller (headless stand-ins), calls update once per step and
+ * re-initializes the game whenever the game asks to be reset.
+ */
+public class HeadlessSimulation {
+    private final BrickerGameManager gameManager;
+    private final HeadlessImageReader imageReader;
+    private final HeadlessSoundReader soundReader;
+    private final HeadlessInputListener inputListener;
+    private final HeadlessWindowController windowController;
+    private final float deltaTime;
+    private final long seed;
+    private long framesSimulated;
+
+    /**
+     * Constructor. Creates and initializes a headless game.
+     * @param windowDimensions The dimensions of the simulated game window.
+     * @param brickRows        The number of rows for the bricks layout.
+     * @param brickCols        The number of columns for the bricks layout.
+     * @param deltaTime        The fixed time, in seconds, that passes in each simulated frame.
+     * @param playAgain        Whether a game that ended should be reset (true) or closed (false).
+     */
+    public HeadlessSimulation(Vector2 windowDimensions, int brickRows, int brickCols, float deltaTime,
+                              boolean playAgain) {
+        this(windowDimensions, brickRows, brickCols, deltaTime, playAgain, GameRandom.randomSeed());
+    }
+
+    /**
+     * Constructor. Creates and initializes a headless game. Simulations created with the same parameters and
+     * seed, and given the same input, play exactly the same games.
+     * @param windowDimensions The dimensions of the simulated game window.
+     * @param brickRows        The number of rows for the bricks layout.
+     * @param brickCols        The number of columns for the bricks layout.
+     * @param deltaTime        The fixed time, in seconds, that passes in each simulated frame.
+     * @param playAgain        Whether a game that ended should be reset (true) or closed (false).
+     * @param seed             Seed of the game's randomness.
+     */
+    public HeadlessSimulation(Vector2 windowDimensions, int brickRows, int brickCols, float deltaTime,
+                              boolean playAgain, long seed) {
+        this(new BrickerGameManager(WINDOW_TITLE, windowDimensions, brickRows, brickCols, true,
+                new GameRandom(seed)), windowDimensions, deltaTime, playAgain, seed);
+    }
+
+    /**
+     * Constructor. Initializes a headless game created by the caller, which may be set up (e.g. given an
+     * input log) before it's initialized.
+     * @param gameManager      The game to simulate, created as headless.
+     * @param windowDimensions The dimensions of the simulated game window, same as the game's.
+     * @param deltaTime        The fixed time, in seconds, that passes in each simulated frame.
+     * @param playAgain        Whether a game that ended should be reset (true) or closed (false).
+     * @param seed             Seed of the game's randomness, as given to the game.
+     */
+    public HeadlessSimulation(BrickerGameManager gameManager, Vector2 windowDimensions, float deltaTime,
+                              boolean playAgain, long seed) {
+        this.seed = seed;
+        this.gameManager = gameManager;
+        this.windowController = new HeadlessWindowController(windowDimensions, playAgain);
+        this.imageReader = new HeadlessImageReader(this.windowController.messages());
+        this.soundReader = new HeadlessSoundReader(this.windowController.messages());
+        this.inputListener = new HeadlessInputListener();
+        this.deltaTime = deltaTime;
+        initializeGame();
+    }
+
+    /**
+     * Simulates a single frame. If the game asked to be reset during this frame, it is re-initialized.
+     * @return false if the game asked to close its window and no more frames can be simulated, true
+     * otherwise.
+     */
+    public boolean step() {
+        if (this.windowController.isCloseRequested()) {
+            return false;
+        }
+        this.gameManager.update(this.deltaTime);
+        this.framesSimulated++;
+        if (this.windowController.pollResetRequest()) {
+            initializeGame();
+        }
+        return !this.windowController.isCloseRequested();
+    }
+
+    /**
+     * Simulates frames until the given amount was simulated or the game closed.
+     * @param frames Maximal number of frames to simulate.
+     * @return Number of frames actually simulated.
+     */
+    public long run(long frames) {
+        long simulated = 0;
+        while (simulated < frames && step()) {
+            simulated++;
+        }
+        return simulated;
+    }
+
+    /**
+     * @return The simulated game.
+     */
+    public BrickerGameManager getGameManager() {
+        return this.gameManager;
+    }
+
+    /**
+     * @return The input listener of the game; keys may be pressed and released on it between steps.
+     */
+    public HeadlessInputListener getInputListener() {
+        return this.inputListener;
+    }
+
+    /**
+     * @return The window controller of the game.
+     */
+    public HeadlessWindowController getWindowController() {
+        return this.windowController;
+    }
+
+    /**
+     * @return The seed of the game's randomness.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * @return Number of frames simulated so far, over all games played.
+     */
+    public long getFramesSimulated() {
+        return this.framesSimulated;
+    }
+
+    /**
+     * @return Number of games initialized so far, including the current one.
+     */
+    public int getGamesPlayed() {
+        return this.gameManager.getGamesPlayed();
+    }
+
+    /**
+     * The entry point for running a headless simulation and reporting its throughput.
+     * @param args Command-line arguments: number of frames to simulate, then cols and rows (optional), then
+     *             the seed or the path of an input recording to replay (optional), then a bot that moves
+     *             the paddles, as named for BatchRunner (optional), then the path of a file the frames'
+     *             metrics are written to, as CSV or as JSON lines by its extension (optional).
+     * @throws IOException If the input recording can't be read, or the metrics file can't be written.
+     */
+    public static void main(String[] args) throws IOException {
+        // default settings
+        long frames = HEADLESS_DEFAULT_FRAMES;
+        int bricks_cols = DEFAULT_BRICKS_COLS;
+        int bricks_rows = DEFAULT_BRICKS_ROWS;
+        if (args.length >= 1) {
+            frames = Long.parseLong(args[0]);
+        }
+        // change defaults in case rows and cols were given, same order as in BrickerGameManager
+        if (args.length >= 3) {
+            bricks_cols = Integer.parseInt(args[1]);
+            bricks_rows = Integer.parseInt(args[2]);
+        }
+        long seed = GameRandom.randomSeed();
+        InputReplayer replayer = null;
+        if (args.length >= 4) {
+            try {
+                seed = Long.parseLong(args[3]);
+            } catch (NumberFormatException e) {
+                // not a seed, so it's a recording, which also holds the seed
+                replayer = new InputReplayer(Path.of(args[3]));
+                seed = replayer.getSeed();
+            }
+        }
+        Vector2 windowDimensions = new Vector2(WINDOW_X, WINDOW_Y);
+        BrickerGameManager gameManager = new BrickerGameManager(WINDOW_TITLE, windowDimensions, bricks_rows,
+                bricks_cols, true, new GameRandom(seed));
+        gameManager.setInputLog(replayer);
+        // a bot keeps the games going for as long as needed, without anyone at the keyboard
+        if (args.length >= 5) {
+            gameManager.setPaddleController(
+                    BatchRunner.controllerFactory(args[4], windowDimensions).apply(gameManager));
+        }
+        MetricsExporter exporter = null;
+        if (args.length >= 6) {
+            exporter = new MetricsExporter(Path.of(args[5]));
+            FrameProfiler profiler = new FrameProfiler(PROFILER_REPORT_FRAMES);
+            profiler.setExporter(exporter);
+            gameManager.setProfiler(profiler);
+        }
+        HeadlessSimulation simulation = new HeadlessSimulation(gameManager, windowDimensions,
+                FIXED_DELTA_TIME, true, seed);
+        long startTime = System.nanoTime();
+        long simulated = simulation.run(frames);
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        if (exporter != null) {
+            exporter.close();
+        }
+        System.out.printf("Simulated %d frames (%d games) in %.3f seconds: %.0f frames per second, seed %d%n",
+                simulated, simulation.getGamesPlayed(), seconds, simulated / seconds, simulation.getSeed());
+    }
+
+    private void initializeGame() {
+        this.gameManager.initializeGame(this.imageReader, this.soundReader, this.inputListener,
+                this.windowController);
+    }
+}
@@ -0,0 +1,29 @@
+package bricker.headless;
+
+import danogl.gui.MessageHandler;
+import danogl.gui.Sound;
+import danogl.gui.SoundReader;
+
+
+/**
+ * The HeadlessSoundReader class stands in for SoundReader when the game runs without a window. No audio line
+ * is opened; every request returns the silent EMPTY_SOUND.
+ */
+public class HeadlessSoundReader extends SoundReader {
+    /**
+     * Constructor.
+     * @param messages Handler used for reporting messages.
+     */
+    public HeadlessSoundReader(MessageHandler messages) {
+        super(messages);
+    }
+
+    /**
+     * @param wavFilePath Path of the sound file (ignored).
+     * @return Sound.EMPTY_SOUND, which plays nothing.
+     */
+    @Override
+    public Sound readSound(String wavFilePath) {
+        return Sound.EMPTY_SOUND;
+    }
+}
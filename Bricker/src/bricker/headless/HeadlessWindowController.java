@@ -0,0 +1,125 @@
+package bricker.headless;
+
+import danogl.gui.MessageHandler;
+import danogl.gui.MsgLevel;
+import danogl.gui.OutputMode;
+import danogl.gui.WindowController;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.util.EnumSet;
+
+
+/**
+ * The HeadlessWindowController class stands in for the game window when the game runs without one. Requests
+ * to reset or close the game are only recorded, so that the driving simulation can act on them, and the
+ * play-again dialog is answered with a pre-defined answer instead of waiting for the user.
+ */
+public class HeadlessWindowController implements WindowController {
+    private final Vector2 windowDimensions;
+    private final MessageHandler messageHandler;
+    private boolean playAgainAnswer;
+    private boolean resetRequested;
+    private boolean closeRequested;
+    private float timeScale;
+
+    /**
+     * Constructor.
+     * @param windowDimensions The dimensions the game believes its window has.
+     * @param playAgainAnswer Answer given to every play-again dialog.
+     */
+    public HeadlessWindowController(Vector2 windowDimensions, boolean playAgainAnswer) {
+        this.windowDimensions = windowDimensions;
+        this.playAgainAnswer = playAgainAnswer;
+        this.timeScale = 1;
+        this.messageHandler = new MessageHandler(this);
+        // there is no window to show message boxes on, so every level is written to the error stream
+        for (MsgLevel msgLevel : MsgLevel.values()) {
+            EnumSet<OutputMode> outputModes = EnumSet.of(OutputMode.STANDARD_ERROR);
+            if (msgLevel == MsgLevel.CRITICAL) {
+                outputModes.add(OutputMode.EXIT);
+            }
+            this.messageHandler.setOutputModeOfMsgLevel(msgLevel, outputModes);
+        }
+    }
+
+    /**
+     * @param playAgainAnswer Answer given to every following play-again dialog.
+     */
+    public void setPlayAgainAnswer(boolean playAgainAnswer) {
+        this.playAgainAnswer = playAgainAnswer;
+    }
+
+    /**
+     * @return true if the game asked to be reset since the last call, false otherwise. Clears the request.
+     */
+    public boolean pollResetRequest() {
+        boolean wasRequested = this.resetRequested;
+        this.resetRequested = false;
+        return wasRequested;
+    }
+
+    /**
+     * @return true if the game asked to close its window.
+     */
+    public boolean isCloseRequested() {
+        return this.closeRequested;
+    }
+
+    @Override
+    public void closeWindow() {
+        this.closeRequested = true;
+    }
+
+    @Override
+    public void resetGame() {
+        this.resetRequested = true;
+    }
+
+    @Override
+    public MessageHandler messages() {
+        return this.messageHandler;
+    }
+
+    @Override
+    public boolean openYesNoDialog(String msg) {
+        return this.playAgainAnswer;
+    }
+
+    @Override
+    public double getTimeScale() {
+        return this.timeScale;
+    }
+
+    @Override
+    public void setTimeScale(float value) {
+        this.timeScale = value;
+    }
+
+    @Override
+    public Vector2 getWindowDimensions() {
+        return this.windowDimensions;
+    }
+
+    @Override
+    public void setTargetFramerate(int targetFramerate) {}
+
+    @Override
+    public void setPauseButton(int keyFromKeyEvent) {}
+
+    @Override
+    public void setExitButton(int keyFromKeyEvent) {}
+
+    @Override
+    public void setMouseCursor(Renderable renderable, Vector2 dimensions, Vector2 offset) {}
+
+    @Override
+    public Renderable getMouseCursor() {
+        return null;
+    }
+
+    @Override
+    public Vector2 getMouseCursorDimensions() {
+        return Vector2.ZERO;
+    }
+}
@@ -0,0 +1,130 @@
+package bricker.main;
+
+import static bricker.main.Constants.ASSET_LOADER_THREADS;
+
+import danogl.gui.ImageReader;
+import danogl.gui.Sound;
+import danogl.gui.SoundReader;
+import danogl.gui.rendering.Renderable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+
+/**
+ * The AssetCache class decodes each image and sound of the game once, and keeps it for every game played
+ * afterwards (the engine hands each game new readers, whose own caches start empty). Assets can be preloaded
+ * on background threads; reading an asset that is still loading waits for it, and reading an asset that
+ * wasn't preloaded loads it on the calling thread.
+ * The engine's readers aren't thread safe, so each loading thread reads through readers of its own.
+ */
+public class AssetCache {
+    private final ThreadLocal<ImageReader> imageReaders;
+    private final ThreadLocal<SoundReader> soundReaders;
+    private final Map<ImageKey, CompletableFuture<Renderable>> images;
+    private final Map<String, CompletableFuture<Sound>> sounds;
+    private final Executor loader;
+
+    /**
+     * Constructor.
+     * @param imageReaderFactory Creates the image reader of each loading thread.
+     * @param soundReaderFactory Creates the sound reader of each loading thread.
+     */
+    public AssetCache(Supplier<ImageReader> imageReaderFactory, Supplier<SoundReader> soundReaderFactory) {
+        this.imageReaders = ThreadLocal.withInitial(imageReaderFactory);
+        this.soundReaders = ThreadLocal.withInitial(soundReaderFactory);
+        this.images = new ConcurrentHashMap<>();
+        this.sounds = new ConcurrentHashMap<>();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(ASSET_LOADER_THREADS, ASSET_LOADER_THREADS,
+                1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), AssetCache::newLoaderThread);
+        // the loading threads go away once preloading is done, and never keep the game from exiting
+        executor.allowCoreThreadTimeOut(true);
+        this.loader = executor;
+    }
+
+    /**
+     * Starts loading an image on a background thread, unless it's already loaded or loading.
+     * @param path                       Path of the image.
+     * @param isTopLeftPixelTransparency Whether the color of the top-left pixel is the image's background.
+     */
+    public void preloadImage(String path, boolean isTopLeftPixelTransparency) {
+        this.images.computeIfAbsent(new ImageKey(path, isTopLeftPixelTransparency),
+                key -> CompletableFuture.supplyAsync(() -> loadImage(key), this.loader));
+    }
+
+    /**
+     * Starts loading a sound on a background thread, unless it's already loaded or loading.
+     * @param path Path of the wav file.
+     */
+    public void preloadSound(String path) {
+        this.sounds.computeIfAbsent(path,
+                key -> CompletableFuture.supplyAsync(() -> loadSound(key), this.loader));
+    }
+
+    /**
+     * Returns an image, waiting for it in case it's still being preloaded.
+     * @param path                       Path of the image.
+     * @param isTopLeftPixelTransparency Whether the color of the top-left pixel is the image's background.
+     * @return The decoded image.
+     */
+    public Renderable readImage(String path, boolean isTopLeftPixelTransparency) {
+        return this.images.computeIfAbsent(new ImageKey(path, isTopLeftPixelTransparency),
+                key -> CompletableFuture.completedFuture(loadImage(key))).join();
+    }
+
+    /**
+     * Returns a sound, waiting for it in case it's still being preloaded.
+     * @param path Path of the wav file.
+     * @return The loaded sound.
+     */
+    public Sound readSound(String path) {
+        return this.sounds.computeIfAbsent(path,
+                key -> CompletableFuture.completedFuture(loadSound(key))).join();
+    }
+
+    private Renderable loadImage(ImageKey key) {
+        return this.imageReaders.get().readImage(key.path, key.isTopLeftPixelTransparency);
+    }
+
+    private Sound loadSound(String path) {
+        return this.soundReaders.get().readSound(path);
+    }
+
+    private static Thread newLoaderThread(Runnable task) {
+        Thread thread = new Thread(task, "asset-loader");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static final class ImageKey {
+        private final String path;
+        private final boolean isTopLeftPixelTransparency;
+
+        private ImageKey(String path, boolean isTopLeftPixelTransparency) {
+            this.path = path;
+            this.isTopLeftPixelTransparency = isTopLeftPixelTransparency;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ImageKey)) {
+                return false;
+            }
+            ImageKey other = (ImageKey) obj;
+            return this.path.equals(other.path)
+                    && this.isTopLeftPixelTransparency == other.isTopLeftPixelTransparency;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.path, this.isTopLeftPixelTransparency);
+        }
+    }
+}
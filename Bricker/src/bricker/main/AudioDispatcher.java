@@ -0,0 +1,161 @@
+package bricker.main;
+
+import danogl.gui.Sound;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+
+/**
+ * The AudioDispatcher class plays the game's sounds on a thread of its own, so that the frame loop never
+ * waits for the audio system. Sounds are played through the stand-ins returned by dispatched, whose play
+ * only asks for the sound to be played:
+ * The requests of a frame are collected on the game's thread, and the same sound requested several times in
+ * a frame is played once. At the end of the frame the requested sounds are handed to the audio thread, and
+ * requests that don't fit in its queue are dropped. The audio thread plays each sound at most a limited
+ * number of times within the time a play is assumed to last, so that a storm of collisions can't pile up
+ * more voices of a sound than can be heard.
+ */
+public class AudioDispatcher {
+    private final int maxVoices;
+    private final long voiceNanos;
+    private final BlockingQueue<Sound> queue;
+    private final List<Sound> frameRequests;
+    private final Map<Sound, Sound> dispatchedSounds;
+    private final Map<Sound, Voices> voices;
+    private final Thread audioThread;
+
+    /**
+     * Constructor. Starts the audio thread.
+     * @param maxVoices     Maximal number of times a sound is played within voiceMillis.
+     * @param voiceMillis   Time, in milliseconds, a play of a sound is assumed to last.
+     * @param queueCapacity Maximal number of sounds waiting for the audio thread.
+     */
+    public AudioDispatcher(int maxVoices, long voiceMillis, int queueCapacity) {
+        this.maxVoices = maxVoices;
+        this.voiceNanos = voiceMillis * 1_000_000;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.frameRequests = new ArrayList<>();
+        this.dispatchedSounds = new IdentityHashMap<>();
+        this.voices = new IdentityHashMap<>();
+        this.audioThread = new Thread(this::playQueuedSounds, "audio-dispatcher");
+        // the thread never keeps the game from exiting
+        this.audioThread.setDaemon(true);
+        this.audioThread.start();
+    }
+
+    /**
+     * Returns a sound whose play is dispatched through this object instead of playing right away. Should be
+     * called on the game's thread.
+     * @param sound The sound to play.
+     * @return The stand-in of the sound, the same one for every call with the same sound.
+     */
+    public Sound dispatched(Sound sound) {
+        return this.dispatchedSounds.computeIfAbsent(sound, DispatchedSound::new);
+    }
+
+    /**
+     * Hands the sounds requested in the frame to the audio thread, without waiting for it. Should be called
+     * on the game's thread, once at the end of each frame.
+     */
+    public void endFrame() {
+        for (int i = 0; i < this.frameRequests.size(); i++) {
+            // a full queue means the audio thread is behind, and the sound would be late anyway
+            this.queue.offer(this.frameRequests.get(i));
+        }
+        this.frameRequests.clear();
+    }
+
+    /**
+     * Stops the audio thread. Sounds that weren't played yet are dropped.
+     */
+    public void close() {
+        this.audioThread.interrupt();
+    }
+
+    private void request(Sound sound) {
+        // only a few distinct sounds are requested in a frame, so a scan is cheaper than a set
+        for (int i = 0; i < this.frameRequests.size(); i++) {
+            if (this.frameRequests.get(i) == sound) {
+                return;
+            }
+        }
+        this.frameRequests.add(sound);
+    }
+
+    private void playQueuedSounds() {
+        try {
+            while (true) {
+                Sound sound = this.queue.take();
+                if (takeVoice(sound)) {
+                    sound.play();
+                }
+            }
+        } catch (InterruptedException e) {
+            // closed
+        }
+    }
+
+    private boolean takeVoice(Sound sound) {
+        // only the audio thread uses the voices
+        Voices soundVoices = this.voices.computeIfAbsent(sound, key -> new Voices(this.maxVoices));
+        return soundVoices.take(System.nanoTime(), this.voiceNanos);
+    }
+
+    /**
+     * The Voices class keeps the start times of the last plays of a sound, as a ring in which the oldest
+     * play comes next.
+     */
+    private static final class Voices {
+        private final long[] starts;
+        private int oldest;
+        private int used;
+
+        private Voices(int maxVoices) {
+            this.starts = new long[maxVoices];
+        }
+
+        private boolean take(long now, long voiceNanos) {
+            // in case the oldest play is still heard, so are all the others
+            if (this.used == this.starts.length && now - this.starts[this.oldest] < voiceNanos) {
+                return false;
+            }
+            this.used = Math.min(this.used + 1, this.starts.length);
+            this.starts[this.oldest] = now;
+            this.oldest = (this.oldest + 1) % this.starts.length;
+            return true;
+        }
+    }
+
+    /**
+     * The DispatchedSound class stands in for a sound of the game, asking the dispatcher to play it.
+     */
+    private final class DispatchedSound extends Sound {
+        private final Sound sound;
+
+        private DispatchedSound(Sound sound) {
+            super(null);
+            this.sound = sound;
+        }
+
+        @Override
+        public void play() {
+            request(this.sound);
+        }
+
+        @Override
+        public void playLooped() {
+            // looped sounds aren't collision sounds, and are played right away
+            this.sound.playLooped();
+        }
+
+        @Override
+        public void stopAllOccurences() {
+            this.sound.stopAllOccurences();
+        }
+    }
+}
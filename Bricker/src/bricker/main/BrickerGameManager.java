@@ -1,20 +1,40 @@
 package bricker.main;
 
+import bricker.brick_field.BrickField;
+import bricker.brick_field.BrickFieldRenderer;
+import bricker.brick_field.BrickGrid;
+import bricker.brick_field.LevelFile;
 import bricker.brick_strategies.*;
 import bricker.gameobjects.*;
+import bricker.paddle_controllers.KeyboardPaddleController;
+import bricker.paddle_controllers.PaddleController;
+import bricker.profiling.FramePhase;
+import bricker.profiling.FrameProfiler;
+import bricker.profiling.MetricsExporter;
+import bricker.profiling.ProfilerOverlay;
+import bricker.replay.InputRecorder;
+import bricker.replay.InputReplayer;
+import bricker.replay.RecordedKeysInputListener;
 import static bricker.main.Constants.*;
 
 import danogl.GameManager;
 import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
 import danogl.components.CoordinateSpace;
 import danogl.gui.*;
+import danogl.gui.rendering.Camera;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.event.KeyEvent;
-import java.util.Random;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -27,17 +47,40 @@ import java.util.Random;
 public class BrickerGameManager extends GameManager {
     private final int brickRows;
     private final int brickCols;
-    private Counter bricksCounter;
-    private Counter livesLeft;
+    private ObservableCounter bricksCounter;
+    private ObservableCounter livesLeft;
     private Ball ball;
+    private GameObject paddle;
     private Counter paddleLivesCounter;
     private Counter hitsBeforeCameraChange;
     private StrategyFactory strategyFactory;
     private WindowController windowController;
     private final Vector2 windowDimensions;
     private UserInputListener inputListener;
-    private ImageReader imageReader;
-    private SoundReader soundReader;
+    private AssetCache assets;
+    private AudioDispatcher audio;
+    private NumberRenderables livesRenderables;
+    private NumberRenderables bricksLeftRenderables;
+    private final boolean headless;
+    private final GameRandom random;
+    private RecordedKeysInputListener inputLog;
+    private PaddleController paddleController;
+    private PaddleController activePaddleController;
+    private boolean sweptCollisionsEnabled;
+    private SweptCollisions sweptCollisions;
+    private BrickHitQueue brickHits;
+    private BrickField level;
+    private FrameProfiler profiler;
+    private final ViewCulling viewCulling;
+    private List<GameObject> borders;
+    private Camera headlessCamera;
+    private IndexedGameObjectCollection indexedGameObjects;
+    private BrickGrid brickGrid;
+    private GameObjectPool<Puck> puckPool;
+    private GameObjectPool<Heart> heartPool;
+    private GameSnapshot initialSnapshot;
+    private int gamesPlayed;
+    private int gamesWon;
 
     /**
      * Constructor.
@@ -47,10 +90,43 @@ public class BrickerGameManager extends GameManager {
      * @param brickCols        The number of columns for the bricks layout.
      */
     public BrickerGameManager(String windowTitle, Vector2 windowDimensions, int brickRows, int brickCols) {
+        this(windowTitle, windowDimensions, brickRows, brickCols, false);
+    }
+
+    /**
+     * Constructor.
+     * @param windowTitle      The title of the game window.
+     * @param windowDimensions The dimensions of the game window.
+     * @param brickRows        The number of rows for the bricks layout.
+     * @param brickCols        The number of columns for the bricks layout.
+     * @param headless         Whether the game is driven without a window (see HeadlessSimulation) instead
+     *                         of through run().
+     */
+    public BrickerGameManager(String windowTitle, Vector2 windowDimensions, int brickRows, int brickCols,
+                              boolean headless) {
+        this(windowTitle, windowDimensions, brickRows, brickCols, headless, new GameRandom());
+    }
+
+    /**
+     * Constructor.
+     * @param windowTitle      The title of the game window.
+     * @param windowDimensions The dimensions of the game window.
+     * @param brickRows        The number of rows for the bricks layout.
+     * @param brickCols        The number of columns for the bricks layout.
+     * @param headless         Whether the game is driven without a window (see HeadlessSimulation) instead
+     *                         of through run().
+     * @param random           Source of all the randomness of the game. It isn't re-seeded when the game is
+     *                         reset, so a seed reproduces a whole session of games.
+     */
+    public BrickerGameManager(String windowTitle, Vector2 windowDimensions, int brickRows, int brickCols,
+                              boolean headless, GameRandom random) {
         super(windowTitle, windowDimensions);
         this.brickRows = brickRows;
         this.brickCols = brickCols;
         this.windowDimensions = windowDimensions;
+        this.headless = headless;
+        this.random = random;
+        this.viewCulling = new ViewCulling(windowDimensions, CULLING_FAR_DISTANCE);
     }
 
     /**
@@ -66,23 +142,57 @@ public class BrickerGameManager extends GameManager {
     @Override
     public void initializeGame(ImageReader imageReader, SoundReader soundReader,
                                UserInputListener inputListener, WindowController windowController) {
-        super.initializeGame(imageReader, soundReader, inputListener, windowController);
-        this.imageReader = imageReader;
-        this.soundReader = soundReader;
+        // there's no GUI component to register mouse listeners on in headless mode
+        if (this.headless) {
+            this.headlessCamera = null;
+        } else {
+            super.initializeGame(imageReader, soundReader, inputListener, windowController);
+        }
+        this.indexedGameObjects = new IndexedGameObjectCollection(windowController.messages(),
+                List.of(ObjectKind.PUCK, ObjectKind.HEART, ObjectKind.TEMP_PADDLE));
+        setGameObjectsCollection(this.indexedGameObjects);
+        // the assets are decoded once, and kept for the games played afterwards
+        if (this.assets == null) {
+            this.assets = createAssetCache(imageReader, soundReader, windowController.messages());
+            preloadAssets();
+            // headless sounds are silent, so there's nothing to dispatch
+            if (!this.headless) {
+                this.audio = new AudioDispatcher(AUDIO_MAX_VOICES, AUDIO_VOICE_MILLIS, AUDIO_QUEUE_CAPACITY);
+            }
+        }
         this.inputListener = inputListener;
+        // the recorded keys are answered by the input log, everything else by the engine's listener
+        if (this.inputLog != null) {
+            this.inputLog.setSource(inputListener);
+            this.inputListener = this.inputLog;
+        }
+        // the paddles follow the player's keyboard, unless another controller was set
+        this.activePaddleController = this.paddleController;
+        if (this.activePaddleController == null) {
+            this.activePaddleController = new KeyboardPaddleController(this.inputListener);
+        }
         this.windowController = windowController;
         this.paddleLivesCounter = new Counter();
-        this.livesLeft = new Counter(Constants.INITIAL_HEARTS);
+        // lives collected past the maximum are lost
+        this.livesLeft = new ObservableCounter(Constants.INITIAL_HEARTS, MAX_HEARTS);
         this.hitsBeforeCameraChange = new Counter();
-        this.bricksCounter = new Counter(this.brickRows * this.brickCols);
+        this.bricksCounter = new ObservableCounter(this.level == null ? this.brickRows * this.brickCols
+                : this.level.aliveCount());
+        this.brickHits = new BrickHitQueue();
         // set background and create game objects
         setBackground();
         createBorders();
         createLivesCounters();
+        createBricksLeftDisplay();
+        createProfilerOverlay();
         createMainBall();
         createMainPaddle();
         createStrategyFactory();
         createBricks();
+        createSweptCollisions();
+        // playing again goes back to this snapshot instead of initializing the game again
+        this.initialSnapshot = takeSnapshot();
+        this.gamesPlayed++;
     }
 
     /**
@@ -96,40 +206,342 @@ public class BrickerGameManager extends GameManager {
      */
     @Override
     public void update(float deltaTime) {
+        if (this.profiler != null) {
+            this.profiler.startFrame();
+        }
+        // the recorded keys keep the same state for the whole frame, which takes the recorded time step
+        if (this.inputLog != null) {
+            deltaTime = this.inputLog.nextFrame(deltaTime);
+        }
+        this.activePaddleController.nextFrame();
+        // far pucks skip their updates according to where the camera was left by the last frame
+        this.viewCulling.nextFrame();
+        this.viewCulling.setView(camera());
+        // swept objects meet the paddles where they started the frame, whichever is updated first
+        if (this.sweptCollisions != null) {
+            this.sweptCollisions.startFrame();
+        }
         super.update(deltaTime);
+        endProfiledPhase(FramePhase.ENGINE_UPDATE);
+        // the bricks hit during this frame's collisions are destroyed together, once they're all resolved
+        applyBrickHits();
+        endProfiledPhase(FramePhase.BRICK_HITS);
+        if (this.headlessCamera != null) {
+            moveHeadlessCamera();
+        }
+        endProfiledPhase(FramePhase.CAMERA_CHECK);
         // check if objects are no longer in use in the game and remove them
         checkIfRemovingObjectNeeded();
+        endProfiledPhase(FramePhase.OBJECT_CLEANUP);
         // check camera status
         setCameraNull();
-        // if livesLeft has passed max, set it to max
-        boundLivesLeft();
+        endProfiledPhase(FramePhase.CAMERA_CHECK);
         // check if win or lose
         String prompt = manageWinOrLose();
         // if win / lose ask if user wants to play again
         resetOrClose(prompt);
+        // the frame's sounds are played by the audio thread, once each
+        if (this.audio != null) {
+            this.audio.endFrame();
+        }
+        if (this.profiler != null) {
+            this.profiler.endPhase(FramePhase.WIN_LOSE_CHECK);
+            this.profiler.endFrame(gameObjects());
+        }
+    }
+
+    /**
+     * Renders the objects of the game that are inside the camera's view (or the window, when there's no
+     * camera); objects outside of it are skipped (see ViewCulling).
+     * @param g A utility object for drawing shapes, text, and images.
+     */
+    @Override
+    public void render(Graphics2D g) {
+        Camera camera = camera();
+        this.viewCulling.setView(camera);
+        for (GameObject obj : gameObjects()) {
+            if (this.viewCulling.isVisible(obj)) {
+                obj.render(g, camera);
+            }
+        }
+    }
+
+    /**
+     * Copies the current state of the game (see GameSnapshot), so that it can be restored later.
+     * @return Snapshot of the current state of the game.
+     */
+    public GameSnapshot takeSnapshot() {
+        return new GameSnapshot(this.brickGrid.getBrickField(), this.bricksCounter.value(),
+                this.livesLeft.value(), this.paddleLivesCounter.value(), this.hitsBeforeCameraChange.value(),
+                this.ball, this.paddle, this.indexedGameObjects.dynamicObjectsOf(ObjectKind.PUCK),
+                this.indexedGameObjects.dynamicObjectsOf(ObjectKind.HEART),
+                this.indexedGameObjects.dynamicObjectsOf(ObjectKind.TEMP_PADDLE), camera());
+    }
+
+    /**
+     * Brings the game back to the state of a snapshot. Objects that are only created during the game
+     * (bricks, pucks, hearts) are reused or created lazily, so nothing is read from disk and no brick is
+     * created. Should be called between frames (not during a collision).
+     * @param snapshot A snapshot taken from this game since it was last initialized.
+     */
+    public void restoreSnapshot(GameSnapshot snapshot) {
+        // apply the changes of this frame first, so that objects removed in it may be reused
+        this.indexedGameObjects.update(0);
+        // remove the dynamic objects and the created bricks of the current state
+        removeObjectsBelow(this.indexedGameObjects.dynamicObjectsOf(ObjectKind.PUCK), this.puckPool,
+                Float.NEGATIVE_INFINITY);
+        removeObjectsBelow(this.indexedGameObjects.dynamicObjectsOf(ObjectKind.HEART), this.heartPool,
+                Float.NEGATIVE_INFINITY);
+        List<GameObject> tempPaddles = this.indexedGameObjects.dynamicObjectsOf(ObjectKind.TEMP_PADDLE);
+        for (int i = tempPaddles.size() - 1; i >= 0; i--) {
+            gameObjects().removeGameObject(tempPaddles.get(i));
+        }
+        this.brickGrid.forEachMaterializedBrick(brick -> gameObjects().removeGameObject(brick, BRICKS_LAYER));
+        this.indexedGameObjects.update(0);
+        // restore the bricks and counters; bricks are created again once they're needed
+        this.brickGrid.getBrickField().copyFrom(snapshot.getBrickField());
+        setCounter(this.bricksCounter, snapshot.getBricksLeft());
+        setCounter(this.livesLeft, snapshot.getLivesLeft());
+        setCounter(this.paddleLivesCounter, snapshot.getPaddleLives());
+        setCounter(this.hitsBeforeCameraChange, snapshot.getHitsBeforeCameraChange());
+        // restore the objects
+        snapshot.getBall().applyTo(this.ball);
+        snapshot.getPaddle().applyTo(this.paddle);
+        for (GameSnapshot.ObjectState puckState : snapshot.getPucks()) {
+            Puck puck = this.puckPool.acquire();
+            puckState.applyTo(puck);
+            gameObjects().addGameObject(puck);
+        }
+        for (GameSnapshot.ObjectState heartState : snapshot.getHearts()) {
+            Heart heart = this.heartPool.acquire();
+            heartState.applyTo(heart);
+            gameObjects().addGameObject(heart);
+        }
+        for (int i = 0; i < snapshot.getTempPaddles().size(); i++) {
+            TempPaddle tempPaddle = snapshot.getTempPaddles().get(i);
+            snapshot.getTempPaddleStates().get(i).applyTo(tempPaddle);
+            gameObjects().addGameObject(tempPaddle);
+        }
+        setCamera(snapshot.getCamera());
+    }
+
+    /**
+     * @return Number of games played so far, including the current one.
+     */
+    public int getGamesPlayed() {
+        return this.gamesPlayed;
+    }
+
+    /**
+     * @return Number of games won so far.
+     */
+    public int getGamesWon() {
+        return this.gamesWon;
+    }
+
+    /**
+     * @return The main ball of the current game.
+     */
+    public Ball getBall() {
+        return this.ball;
+    }
+
+    /**
+     * Sets the controller that moves the paddles (see PaddleController). Takes effect from the next
+     * initialization of the game, so it should be set before the game starts.
+     * @param paddleController The controller of the paddles, null to move them with the player's keyboard.
+     */
+    public void setPaddleController(PaddleController paddleController) {
+        this.paddleController = paddleController;
+    }
+
+    /**
+     * Starts a new game from the initial state, same as answering yes to the play again dialog. The current
+     * game is counted as neither won nor lost. Should be called between frames.
+     */
+    public void restartGame() {
+        // same as initializing the game, without reading the assets or creating the objects again: the
+        // initial state is restored, and the ball direction and the bricks' strategies are randomized again
+        restoreSnapshot(this.initialSnapshot);
+        setBallRandomVelocity();
+        fillBrickField(this.brickGrid.getBrickField());
+        this.gamesPlayed++;
+    }
+
+    /**
+     * Sets whether balls and pucks move along their whole path in each frame (see SweptCollisions), so
+     * they can't pass through bricks, borders and paddles at high speeds or large time steps. Takes effect
+     * from the next initialization of the game, so it should be set before the game starts.
+     * @param sweptCollisionsEnabled true for swept collisions, false for the engine's collisions only.
+     */
+    public void setSweptCollisions(boolean sweptCollisionsEnabled) {
+        this.sweptCollisionsEnabled = sweptCollisionsEnabled;
+    }
+
+    /**
+     * Sets how often pucks far outside the camera's view are updated (see ViewCulling). Slowing them down
+     * saves time on large levels, but moves them in larger steps, so it's best used with swept collisions.
+     * Takes effect from the next frame.
+     * @param farUpdateInterval Number of frames between the updates of a far puck, 1 (the default) to update
+     *                          every puck in every frame.
+     */
+    public void setFarUpdateInterval(int farUpdateInterval) {
+        this.viewCulling.setFarUpdateInterval(farUpdateInterval);
+    }
+
+    /**
+     * Sets an input log that records or replays the keys the game reacts to (see InputRecorder and
+     * InputReplayer). Takes effect from the next initialization of the game, so it should be set before the
+     * game starts.
+     * @param inputLog The input log, null to read the keys only from the engine's input listener.
+     */
+    public void setInputLog(RecordedKeysInputListener inputLog) {
+        this.inputLog = inputLog;
+    }
+
+    /**
+     * Sets the level played (see LevelFile), instead of a full grid of bricks with random strategies. Takes
+     * effect from the next initialization of the game, so it should be set before the game starts.
+     * @param level The bricks of the level, which are copied by each game. null for a full grid of the rows
+     *              and columns given to the constructor.
+     */
+    public void setLevel(BrickField level) {
+        this.level = level;
+    }
+
+    /**
+     * Sets the profiler that times the phases of each frame (see FrameProfiler). Takes effect from the next
+     * frame; the profiler's overlay is shown from the next initialization of the game.
+     * @param profiler The profiler of the game's frames, null to stop profiling.
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * @return The current camera, null if world coordinates are used as rendering coordinates.
+     */
+    @Override
+    public Camera camera() {
+        if (this.headless) {
+            return this.headlessCamera;
+        }
+        return super.camera();
+    }
+
+    /**
+     * Sets the current camera. In headless mode the camera is kept here, since the engine's camera also
+     * updates mouse listeners which don't exist without a window.
+     * @param camera The new camera to use, null to disable the existing one.
+     */
+    @Override
+    public void setCamera(Camera camera) {
+        if (this.headless) {
+            this.headlessCamera = camera;
+            return;
+        }
+        super.setCamera(camera);
+    }
+
+    /**
+     * @return The collection of the game's objects. Overridden so that it's also accessible from the rest of
+     * the game's package.
+     */
+    @Override
+    protected GameObjectCollection gameObjects() {
+        return super.gameObjects();
     }
 
     /**
      * The entry point for starting the Bricker game.
-     * @param args Command-line arguments for customizing brick layout; rows and cols (optional).
+     * @param args Command-line arguments for customizing brick layout; rows and cols, or "level" and the
+     *             path of a level file (optional), then
+     *             "record" or "replay" and the path of an input recording, or "profile" and the path of a
+     *             metrics file (optional).
+     * @throws IOException If the level, the input recording or the metrics file can't be created or read.
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         // default settings
         int bricks_cols = DEFAULT_BRICKS_COLS;
         int bricks_rows = DEFAULT_BRICKS_ROWS;
-        // change defaults in case 2 parameters were given
-        if (args.length == 2) {
+        // the level's size is read from its file, instead of the rows and cols
+        BrickField level = null;
+        if (args.length >= 2 && args[0].equals(LEVEL_ARG)) {
+            level = LevelFile.read(Path.of(args[1]));
+            bricks_cols = level.getCols();
+            bricks_rows = level.getRows();
+        } else if (args.length >= 2) {
+            // change defaults in case 2 parameters were given
             bricks_cols = Integer.parseInt(args[0]);
             bricks_rows = Integer.parseInt(args[1]);
         }
+        // record the session, or replay a recorded one with the seed it was played with
+        GameRandom random = new GameRandom();
+        RecordedKeysInputListener inputLog = null;
+        if (args.length == 4 && args[2].equals(RECORD_ARG)) {
+            InputRecorder recorder = new InputRecorder(Path.of(args[3]), random.getSeed());
+            // the window exits the program when it's closed, so the recording is closed on exit
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> closeRecorder(recorder)));
+            inputLog = recorder;
+        } else if (args.length == 4 && args[2].equals(REPLAY_ARG)) {
+            InputReplayer replayer = new InputReplayer(Path.of(args[3]));
+            random = new GameRandom(replayer.getSeed());
+            inputLog = replayer;
+        }
+        FrameProfiler profiler = null;
+        if (args.length == 4 && args[2].equals(PROFILE_ARG)) {
+            MetricsExporter exporter = new MetricsExporter(Path.of(args[3]));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> closeExporter(exporter)));
+            profiler = new FrameProfiler(PROFILER_REPORT_FRAMES);
+            profiler.setExporter(exporter);
+        }
         // run game
         BrickerGameManager brickGameManager = new BrickerGameManager(WINDOW_TITLE,
-                new Vector2(WINDOW_X, WINDOW_Y), bricks_rows, bricks_cols);
+                new Vector2(WINDOW_X, WINDOW_Y), bricks_rows, bricks_cols, false, random);
+        brickGameManager.setLevel(level);
+        brickGameManager.setInputLog(inputLog);
+        brickGameManager.setProfiler(profiler);
         brickGameManager.run();
     }
 
+    private static void closeExporter(MetricsExporter exporter) {
+        try {
+            exporter.close();
+        } catch (IOException e) {
+            System.err.println("Failed saving the metrics: " + e.getMessage());
+        }
+    }
+
+    private static void closeRecorder(InputRecorder recorder) {
+        try {
+            recorder.close();
+        } catch (IOException e) {
+            System.err.println("Failed saving the input recording: " + e.getMessage());
+        }
+    }
+
+    private AssetCache createAssetCache(ImageReader imageReader, SoundReader soundReader,
+                                        MessageHandler messages) {
+        // the headless stand-ins keep no state, so all the loading threads can share them
+        if (this.headless) {
+            return new AssetCache(() -> imageReader, () -> soundReader);
+        }
+        return new AssetCache(() -> new ImageReader(messages), () -> new SoundReader(messages));
+    }
+
+    private void preloadAssets() {
+        this.assets.preloadImage(BACKGROUND_IMG_PATH, true);
+        this.assets.preloadImage(BALL_IMG_PATH, true);
+        this.assets.preloadImage(PADDLE_IMG_PATH, true);
+        this.assets.preloadImage(PADDLE_IMG_PATH, false);
+        this.assets.preloadImage(BRICK_IMG_PATH, false);
+        this.assets.preloadImage(HEART_IMG_PATH, true);
+        this.assets.preloadImage(PUCK_IMG_PATH, true);
+        this.assets.preloadSound(SOUND_PATH);
+    }
+
     private void setBackground() {
-        Renderable backgroundImage = this.imageReader.readImage(BACKGROUND_IMG_PATH,true);
+        Renderable backgroundImage = this.assets.readImage(BACKGROUND_IMG_PATH,true);
         GameObject background = new GameObject(Vector2.ZERO, new Vector2(this.windowDimensions.x(),
                 this.windowDimensions.y()), backgroundImage);
         // add background to game objects
@@ -149,11 +561,31 @@ public class BrickerGameManager extends GameManager {
         gameObjects().addGameObject(leftBorder, Layer.STATIC_OBJECTS);
         gameObjects().addGameObject(rightBorder, Layer.STATIC_OBJECTS);
         gameObjects().addGameObject(topBorder, Layer.STATIC_OBJECTS);
+        this.borders = List.of(leftBorder, rightBorder, topBorder);
+    }
+
+    private void createSweptCollisions() {
+        this.sweptCollisions = null;
+        if (this.sweptCollisionsEnabled) {
+            List<GameObject> obstacles = new ArrayList<>(this.borders);
+            obstacles.add(this.paddle);
+            this.sweptCollisions = new SweptCollisions(this.indexedGameObjects, this.brickGrid,
+                    this.brickHits, obstacles);
+        }
+        this.ball.setSweptCollisions(this.sweptCollisions);
+    }
+
+    private Sound readCollisionSound() {
+        Sound sound = this.assets.readSound(SOUND_PATH);
+        if (this.audio == null) {
+            return sound;
+        }
+        return this.audio.dispatched(sound);
     }
 
     private void createMainBall() {
-        Sound collisionSound = this.soundReader.readSound(SOUND_PATH);
-        Renderable mainBallImage = this.imageReader.readImage(BALL_IMG_PATH, true);
+        Sound collisionSound = readCollisionSound();
+        Renderable mainBallImage = this.assets.readImage(BALL_IMG_PATH, true);
         // create ball and set ball to start at required location with an init velocity
         this.ball = new Ball(this.windowDimensions.mult(0.5f),
                 BALL_DIAMETER_VEC, mainBallImage, collisionSound);
@@ -168,11 +600,10 @@ public class BrickerGameManager extends GameManager {
         // sets velocity to one of the diagonals / anti-diagonals
         float ballVelocityX = BALL_SPEED;
         float ballVelocityY = BALL_SPEED;
-        Random rand = new Random();
-        if (rand.nextBoolean()) {
+        if (this.random.nextBoolean()) {
             ballVelocityX *= -1;
         }
-        if (rand.nextBoolean()) {
+        if (this.random.nextBoolean()) {
             ballVelocityY *= -1;
         }
         this.ball.setVelocity(new Vector2(ballVelocityX, ballVelocityY));
@@ -182,99 +613,208 @@ public class BrickerGameManager extends GameManager {
         // create relocation vec in case user trys to move paddle beyond frame bounds
         Vector2 relocationVec = new Vector2(this.windowDimensions.x() - PADDLE_WIDTH,
                 this.windowDimensions.y() - PADDLE_DIST_FROM_FRAME);
-        Renderable paddleImage = this.imageReader.readImage(PADDLE_IMG_PATH, true);
+        Renderable paddleImage = this.assets.readImage(PADDLE_IMG_PATH, true);
         // create paddle and set it to start at required location in screen
-        GameObject paddle = new Paddle(new Vector2(this.windowDimensions.x() * 0.5f,
+        this.paddle = new Paddle(new Vector2(this.windowDimensions.x() * 0.5f,
                 this.windowDimensions.y() - PADDLE_DIST_FROM_FRAME),
-                new Vector2(PADDLE_WIDTH, PADDLE_HEIGHT), paddleImage, this.inputListener, relocationVec);
+                new Vector2(PADDLE_WIDTH, PADDLE_HEIGHT), paddleImage, this.activePaddleController,
+                relocationVec);
         // add paddle to game objects
-        gameObjects().addGameObject(paddle);
+        gameObjects().addGameObject(this.paddle);
         // set tag for the paddle, for managing collisions
-        paddle.setTag(PADDLE);
+        this.paddle.setTag(PADDLE);
     }
 
     private void createBricks() {
-        Renderable brickImage = this.imageReader.readImage(BRICK_IMG_PATH, false);
-        // create bricks
-        float totalAddedSpace = DISTANCE_BETWEEN_BRICKS * (this.brickCols - 1);
+        Renderable brickImage = this.assets.readImage(BRICK_IMG_PATH, false);
+        // fill the brick field, bricks are only created as objects once they're needed
+        BrickField brickField = this.level == null ? new BrickField(this.brickRows, this.brickCols)
+                : new BrickField(this.level.getRows(), this.level.getCols());
+        fillBrickField(brickField);
+        float totalAddedSpace = DISTANCE_BETWEEN_BRICKS * (brickField.getCols() - 1);
         float brickWidth = (this.windowDimensions.x() - 2 * BORDER_THICKNESS - totalAddedSpace) /
-                this.brickCols;
-        for (int j = 0; j < this.brickCols; j++) {
-            for (int i = 0; i < this.brickRows; i++) {
-                GameObject brick = new Brick(
-                        new Vector2(j * (brickWidth + DISTANCE_BETWEEN_BRICKS) + BORDER_THICKNESS,
-                                i * (BRICK_HEIGHT + DISTANCE_BETWEEN_BRICKS) + BORDER_THICKNESS),
-                        new Vector2(brickWidth, BRICK_HEIGHT), brickImage,
-                        this.strategyFactory.getRandomStrategy());
-                // add brick to game objects
-                gameObjects().addGameObject(brick, Layer.STATIC_OBJECTS);
-                // set tag for the brick, for managing collisions
-                brick.setTag(BRICK);
-            }
+                brickField.getCols();
+        this.brickGrid = new BrickGrid(brickField, new Vector2(BORDER_THICKNESS, BORDER_THICKNESS),
+                new Vector2(brickWidth, BRICK_HEIGHT), DISTANCE_BETWEEN_BRICKS);
+        this.brickGrid.setMaterializer(this::materializeBrick);
+        this.indexedGameObjects.setBrickGrid(this.brickGrid);
+        // a single object draws all the live bricks
+        gameObjects().addGameObject(new BrickFieldRenderer(this.brickGrid, brickImage, this.windowDimensions),
+                BRICKS_LAYER);
+    }
+
+    private void fillBrickField(BrickField brickField) {
+        // a level's bricks have the strategies given in it
+        if (this.level != null) {
+            brickField.copyFrom(this.level);
+            return;
+        }
+        for (int cell = 0; cell < this.brickRows * this.brickCols; cell++) {
+            brickField.setBrick(cell, this.strategyFactory.getRandomStrategyId());
         }
     }
 
+    private Brick materializeBrick(int row, int col, byte strategyId) {
+        // the brick field renderer draws the brick, so the object itself has no image
+        Brick brick = new Brick(this.brickGrid.cellTopLeftCorner(row, col), this.brickGrid.getBrickSize(),
+                null, this.strategyFactory.getStrategy(strategyId), this.brickHits);
+        // add brick to game objects, which also places it in the grid
+        gameObjects().addGameObject(brick, BRICKS_LAYER);
+        // set tag for the brick, for managing collisions
+        brick.setTag(BRICK);
+        return brick;
+    }
+
     private void createLivesCounters() {
         // graphical
-        Renderable image = imageReader.readImage(HEART_IMG_PATH, true);
+        Renderable image = this.assets.readImage(HEART_IMG_PATH, true);
         GameObject graphicalLifeCounter = new GraphicalLivesCounter(new Vector2(
                 HEART_DIAMETER + DISTANCE_BETWEEN_HEARTS,
                 this.windowDimensions.y() - HEARTS_DIST_FROM_FRAME),
                 new Vector2(HEART_DIAMETER, HEART_DIAMETER),
                 this.livesLeft,
                 image,
-                this.gameObjects(),
-                this.livesLeft.value());
+                this.gameObjects());
         this.gameObjects().addGameObject(graphicalLifeCounter, Layer.UI);
-        // numerical
+        // text rendering queries the screen resolution, which doesn't exist in headless mode
+        if (this.headless) {
+            return;
+        }
+        // numerical, drawn from renderables that are kept for the next games
+        if (this.livesRenderables == null) {
+            this.livesRenderables = new NumberRenderables(0, MAX_HEARTS, NumericalLivesCounter::colorOf);
+        }
         GameObject numericLifeCounter = new NumericalLivesCounter(this.livesLeft,
                 new Vector2(BORDER_THICKNESS, windowDimensions.y() - HEARTS_DIST_FROM_FRAME),
                 new Vector2(HEARTS_NUMERICAL_DIAMETER, HEARTS_NUMERICAL_DIAMETER),
-                this.gameObjects());
+                this.livesRenderables);
         this.gameObjects().addGameObject(numericLifeCounter, Layer.UI);
     }
 
-    private void checkIfRemovingObjectNeeded() {
-        for (GameObject obj : gameObjects()) {
-            if (((obj.getTag().equals(PUCK) || obj.getTag().equals(HEART)) &&
-                    obj.getCenter().y() > this.windowDimensions.y()) ||
-                    (obj.getTag().equals(TEMP_PADDLE) && this.paddleLivesCounter.value() <= 0)) {
-                gameObjects().removeGameObject(obj);
+    private void createBricksLeftDisplay() {
+        // same as the numerical lives counter, text can only be shown with a window
+        if (this.headless) {
+            return;
+        }
+        if (this.bricksLeftRenderables == null) {
+            this.bricksLeftRenderables = new NumberRenderables(0, BRICKS_LEFT_CACHED_VALUES - 1,
+                    value -> Color.WHITE);
+        }
+        GameObject bricksLeftDisplay = new NumberDisplay(this.bricksCounter,
+                new Vector2(this.windowDimensions.x() - BRICKS_LEFT_DIST_FROM_RIGHT,
+                        this.windowDimensions.y() - HEARTS_DIST_FROM_FRAME),
+                new Vector2(BRICKS_LEFT_DIST_FROM_RIGHT - BORDER_THICKNESS, HEARTS_NUMERICAL_DIAMETER),
+                this.bricksLeftRenderables);
+        this.gameObjects().addGameObject(bricksLeftDisplay, Layer.UI);
+    }
+
+    private void createProfilerOverlay() {
+        // same as the numerical counter, text can only be shown with a window
+        if (this.profiler == null || this.headless) {
+            return;
+        }
+        GameObject overlay = new ProfilerOverlay(this.profiler,
+                new Vector2(BORDER_THICKNESS * 2, BORDER_THICKNESS * 2), PROFILER_OVERLAY_LINE_HEIGHT,
+                this.gameObjects());
+        this.gameObjects().addGameObject(overlay, Layer.UI);
+    }
+
+    private void endProfiledPhase(FramePhase phase) {
+        if (this.profiler != null) {
+            this.profiler.endPhase(phase);
+        }
+    }
+
+    /**
+     * Applies the collision strategies of the bricks hit since the last call (see BrickHitQueue).
+     * Package-private so the benchmarks can apply the hits they make the way a frame does.
+     */
+    void applyBrickHits() {
+        this.brickHits.applyAll();
+    }
+
+    /**
+     * Removes pucks and falling hearts that left the window, and the temporary paddle once its lives are
+     * over. Releases the objects of bricks that nothing moves near anymore.
+     * Package-private so the benchmarks can measure it on its own.
+     */
+    void checkIfRemovingObjectNeeded() {
+        removeObjectsBelow(this.indexedGameObjects.dynamicObjectsOf(ObjectKind.PUCK), this.puckPool,
+                this.windowDimensions.y());
+        removeObjectsBelow(this.indexedGameObjects.dynamicObjectsOf(ObjectKind.HEART), this.heartPool,
+                this.windowDimensions.y());
+        if (this.paddleLivesCounter.value() <= 0) {
+            List<GameObject> tempPaddles = this.indexedGameObjects.dynamicObjectsOf(ObjectKind.TEMP_PADDLE);
+            for (int i = tempPaddles.size() - 1; i >= 0; i--) {
+                gameObjects().removeGameObject(tempPaddles.get(i));
+            }
+        }
+        this.indexedGameObjects.releaseDistantBricks(BRICK_RELEASE_DISTANCE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends GameObject> void removeObjectsBelow(List<GameObject> objects, GameObjectPool<T> pool,
+                                                           float minCenterY) {
+        // going backwards, since removing an object also removes it from the list
+        for (int i = objects.size() - 1; i >= 0; i--) {
+            GameObject obj = objects.get(i);
+            if (centerY(obj) > minCenterY && gameObjects().removeGameObject(obj)) {
+                // objects of a kind are all of the pool's type
+                pool.release((T) obj);
             }
         }
     }
 
-    private void boundLivesLeft() {
-        // if livesLeft has passed max, set it to max
-        if (this.livesLeft.value() >= MAX_HEARTS) {
-            this.livesLeft.reset();
-            this.livesLeft.increaseBy(MAX_HEARTS);
+    private void moveHeadlessCamera() {
+        // what Camera.update does, through the float overload (see BatchRunner)
+        GameObject followed = this.headlessCamera.getObjectFollowed();
+        if (followed != null) {
+            Vector2 delta = this.headlessCamera.getDeltaRelativeToObjectFollowed();
+            this.headlessCamera.transform().setCenter(centerX(followed) + delta.x(),
+                    centerY(followed) + delta.y());
         }
     }
 
+    private static float centerX(GameObject obj) {
+        // same as obj.getCenter().x(), without allocating the center vector
+        return obj.getTopLeftCorner().x() + obj.getDimensions().x() * 0.5f;
+    }
+
+    private static float centerY(GameObject obj) {
+        // same as obj.getCenter().y(), without allocating the center vector
+        return obj.getTopLeftCorner().y() + obj.getDimensions().y() * 0.5f;
+    }
+
+    private static void setCounter(Counter counter, int value) {
+        // a single change, so an observable counter reports only the final value
+        counter.increaseBy(value - counter.value());
+    }
+
     private void setCameraNull() {
         // if there have been COLLISIONS_PER_CAMERA_CHANGE hits after camera change
         int hitsSinceCameraChange = this.ball.getCollisionCounter() - this.hitsBeforeCameraChange.value();
-        if (super.camera() != null) {
+        // through the overrides, so that the headless camera is cleared too
+        if (camera() != null) {
             if (hitsSinceCameraChange >= COLLISIONS_PER_CAMERA_CHANGE) {
-                super.setCamera(null);
+                setCamera(null);
             }
         }
     }
 
     private String manageWinOrLose() {
         // get ball center location to check if it went out of bound
-        float ballHeight = this.ball.getCenter().y();
+        float ballHeight = centerY(this.ball);
         String prompt = "";
         // if player wins update prompt
         if ((this.bricksCounter.value() == 0) || (this.inputListener.isKeyPressed(KeyEvent.VK_W))) {
             prompt = YOU_WIN;
+            this.gamesWon++;
         }
         // if player loses update prompt, otherwise there are lives left so reset ball and decrement lives
         else if (ballHeight > windowDimensions.y()) {
             this.livesLeft.decrement();
             if (this.livesLeft.value() > 0) {
-                this.ball.setCenter(windowDimensions.mult(0.5f));
+                this.ball.transform().setCenter(windowDimensions.x() * 0.5f, windowDimensions.y() * 0.5f);
                 setBallRandomVelocity();
             } else {
                 prompt = YOU_LOSE;
@@ -288,8 +828,8 @@ public class BrickerGameManager extends GameManager {
             prompt += PLAY_AGAIN;
             // if player has won or lost, raise a pop-up window asking if player wants to play again.
             if (windowController.openYesNoDialog(prompt)) {
-                // if player answers yes, reset game
-                windowController.resetGame();
+                // if player answers yes, start a new game from the initial state
+                restartGame();
             } else {
                 // otherwise close the game
                 windowController.closeWindow();
@@ -299,16 +839,27 @@ public class BrickerGameManager extends GameManager {
 
     private void createStrategyFactory() {
         // get all information needed for the strategies that exist
-        Renderable puckImage = imageReader.readImage(PUCK_IMG_PATH, true);
-        Sound puckSound = soundReader.readSound(SOUND_PATH);
-        Renderable tempPaddleImage = imageReader.readImage(PADDLE_IMG_PATH, false);
-        Renderable heartImage = imageReader.readImage(HEART_IMG_PATH, true);
+        Renderable puckImage = this.assets.readImage(PUCK_IMG_PATH, true);
+        Sound puckSound = readCollisionSound();
+        Renderable tempPaddleImage = this.assets.readImage(PADDLE_IMG_PATH, false);
+        Renderable heartImage = this.assets.readImage(HEART_IMG_PATH, true);
         Vector2 heartSize = new Vector2(HEART_DIAMETER, HEART_DIAMETER);
+        Counter heartLivesCounter = this.livesLeft;
+        // pucks and falling hearts are reused once they leave the window, see checkIfRemovingObjectNeeded
+        this.puckPool = new GameObjectPool<>(() -> createPuck(puckImage, puckSound), PUCK_POOL_CAPACITY);
+        this.heartPool = new GameObjectPool<>(() -> new Heart(Vector2.ZERO, heartSize, heartImage,
+                HEART_VELOCITY, heartLivesCounter), HEART_POOL_CAPACITY);
         // create StrategyFactory object
-        this.strategyFactory = new StrategyFactory(this,
-                this.gameObjects(), this.windowController, this.windowDimensions, this.inputListener,
-                tempPaddleImage, new Vector2(PADDLE_WIDTH, PADDLE_HEIGHT), this.paddleLivesCounter,
-                puckImage, puckSound, heartImage, heartSize, this.livesLeft, this.hitsBeforeCameraChange,
-                this.bricksCounter);
+        this.strategyFactory = new StrategyFactory(this, this.gameObjects(), this.windowController,
+                this.windowDimensions, this.activePaddleController, tempPaddleImage,
+                new Vector2(PADDLE_WIDTH, PADDLE_HEIGHT), this.paddleLivesCounter, this.puckPool,
+                this.heartPool, heartSize, this.hitsBeforeCameraChange, this.bricksCounter, this.random);
+    }
+
+    private Puck createPuck(Renderable puckImage, Sound puckSound) {
+        Puck puck = new Puck(Vector2.ZERO, puckImage, puckSound);
+        puck.setSweptCollisions(this.sweptCollisions);
+        puck.setViewCulling(this.viewCulling);
+        return puck;
     }
 }
@@ -1,5 +1,6 @@
 package bricker.main;
 
+import danogl.collisions.Layer;
 import danogl.util.Vector2;
 
 
@@ -154,6 +155,16 @@ public class Constants {
      */
     public static final float PADDLE_SPEED = 350f;
 
+    /**
+     * Velocity of a paddle moving left.
+     */
+    public static final Vector2 PADDLE_LEFT_VELOCITY = Vector2.LEFT.mult(PADDLE_SPEED);
+
+    /**
+     * Velocity of a paddle moving right.
+     */
+    public static final Vector2 PADDLE_RIGHT_VELOCITY = Vector2.RIGHT.mult(PADDLE_SPEED);
+
     /**
      * Number of collisions of the ball before the temporary paddle disappears.
      */
@@ -199,6 +210,21 @@ public class Constants {
      */
     public static final int INITIAL_HEARTS = 3;
 
+    /**
+     * Maximal number of removed pucks kept for reuse.
+     */
+    public static final int PUCK_POOL_CAPACITY = 256;
+
+    /**
+     * Maximal number of removed falling hearts kept for reuse.
+     */
+    public static final int HEART_POOL_CAPACITY = 64;
+
+    /**
+     * Number of background threads the game's images and sounds are preloaded on.
+     */
+    public static final int ASSET_LOADER_THREADS = 4;
+
     /**
      * Maximum number of lives in the game.
      */
@@ -243,4 +269,194 @@ public class Constants {
      * If livesCounter equals this value, the color of the numerical lives text should change to yellow.
      */
     public static final int YELLOW_NUMERICAL_VALUE = 2;
+
+    /**
+     * Id of BasicCollisionStrategy, as stored in the brick field.
+     */
+    public static final byte BASIC_STRATEGY_ID = 0;
+
+    /**
+     * Id of PucksStrategy, as stored in the brick field.
+     */
+    public static final byte PUCKS_STRATEGY_ID = 1;
+
+    /**
+     * Id of CameraChangeStrategy, as stored in the brick field.
+     */
+    public static final byte CAMERA_STRATEGY_ID = 2;
+
+    /**
+     * Id of TempPaddleStrategy, as stored in the brick field.
+     */
+    public static final byte TEMP_PADDLE_STRATEGY_ID = 3;
+
+    /**
+     * Id of HeartFallStrategy, as stored in the brick field.
+     */
+    public static final byte HEART_STRATEGY_ID = 4;
+
+    /**
+     * Id of the first DoubleStrategy, as stored in the brick field. Must be the last of the special
+     * strategies ids, so that EXCLUDE_DOUBLE_BOUND excludes it. Each combination of special strategies of a
+     * DoubleStrategy has its own id, starting from this one.
+     */
+    public static final byte DOUBLE_STRATEGY_ID = 5;
+
+    /**
+     * Maximal number of special strategies a DoubleStrategy activates.
+     */
+    public static final int MAX_DOUBLE_STRATEGIES = 3;
+
+    /**
+     * Number of strategy ids: the basic strategy, 4 special strategies, 10 DoubleStrategy combinations of 2
+     * special strategies and 20 combinations of 3.
+     */
+    public static final int STRATEGY_IDS_COUNT = 35;
+
+    /**
+     * Number of codes of DoubleStrategy combinations: one digit of base MAX_DOUBLE_STRATEGIES + 1 for each of
+     * the 4 special strategies.
+     */
+    public static final int DOUBLE_STRATEGY_CODES_COUNT = 256;
+
+    /**
+     * Layer of the bricks. Drawn right after the static objects, and not checked for collisions by the engine
+     * itself; collisions with bricks are found through the brick grid.
+     */
+    public static final int BRICKS_LAYER = Layer.STATIC_OBJECTS + 1;
+
+    /**
+     * Fixed time, in seconds, that passes in each frame of a headless simulation.
+     */
+    public static final float FIXED_DELTA_TIME = 1 / 60f;
+
+    /**
+     * Default number of frames simulated by a headless simulation run from the command line.
+     */
+    public static final long HEADLESS_DEFAULT_FRAMES = 100_000;
+
+    /**
+     * Size, in bytes, of each of the buffers input recordings are written through.
+     */
+    public static final int INPUT_LOG_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Command-line argument for recording the input of the game to a file.
+     */
+    public static final String RECORD_ARG = "record";
+
+    /**
+     * Command-line argument for replaying the input of a recorded game from a file.
+     */
+    public static final String REPLAY_ARG = "replay";
+
+    /**
+     * Horizontal distance, in pixels, from the ball within which the ball-following bot keeps the paddle in
+     * place, so that it doesn't jitter around the ball.
+     */
+    public static final float FOLLOWING_DEAD_ZONE = 5;
+
+    /**
+     * Maximal number of impacts of a ball or puck handled in a single frame when collisions are swept, after
+     * which the rest of the frame's movement is dropped.
+     */
+    public static final int MAX_SWEPT_IMPACTS = 8;
+
+    /**
+     * Default number of games played by a batch run from the command line.
+     */
+    public static final int BATCH_DEFAULT_GAMES = 1000;
+
+    /**
+     * Default maximal number of frames of each game of a batch run, after which the game is counted as
+     * timed out.
+     */
+    public static final long BATCH_DEFAULT_MAX_FRAMES = 60 * 60 * 10;
+
+    /**
+     * Command-line argument of a batch run, for moving the paddles with the autopilot bot.
+     */
+    public static final String AUTOPILOT_CONTROLLER_ARG = "autopilot";
+
+    /**
+     * Command-line argument of a batch run, for moving the paddles with the ball-following bot.
+     */
+    public static final String FOLLOWING_CONTROLLER_ARG = "follow";
+
+    /**
+     * Command-line argument of a batch run, for leaving the paddles in place.
+     */
+    public static final String IDLE_CONTROLLER_ARG = "idle";
+
+    /**
+     * Number of frames summed up in each report of the frame profiler.
+     */
+    public static final int PROFILER_REPORT_FRAMES = 60;
+
+    /**
+     * Height, in pixels, of a line of the profiler's overlay.
+     */
+    public static final float PROFILER_OVERLAY_LINE_HEIGHT = 14;
+
+    /**
+     * Extension of metrics files that are written as JSON lines rather than as CSV.
+     */
+    public static final String JSON_METRICS_EXTENSION = ".json";
+
+    /**
+     * Command-line argument for profiling the game, showing the profiler's overlay and writing its metrics
+     * to a file.
+     */
+    public static final String PROFILE_ARG = "profile";
+
+    /**
+     * Extension of level files that are written in the text format rather than in the binary one.
+     */
+    public static final String TEXT_LEVEL_EXTENSION = ".txt";
+
+    /**
+     * Command-line argument for playing a level read from a file.
+     */
+    public static final String LEVEL_ARG = "level";
+
+    /**
+     * Distance, in pixels, from every moving object beyond which a brick's object is released, leaving the
+     * brick as a cell of the brick field until an object comes near it again.
+     */
+    public static final float BRICK_RELEASE_DISTANCE = 30;
+
+    /**
+     * Maximal number of times the same sound is played within AUDIO_VOICE_MILLIS.
+     */
+    public static final int AUDIO_MAX_VOICES = 4;
+
+    /**
+     * Time, in milliseconds, a play of a collision sound is assumed to be heard.
+     */
+    public static final long AUDIO_VOICE_MILLIS = 150;
+
+    /**
+     * Maximal number of sounds waiting to be played by the audio thread.
+     */
+    public static final int AUDIO_QUEUE_CAPACITY = 16;
+
+    /**
+     * Largest number of bricks left whose renderable is built once and kept, for the bricks left display.
+     */
+    public static final int BRICKS_LEFT_CACHED_VALUES = 1000;
+
+    /**
+     * Distance of the bricks left display from the right side of the window, X-coordinate-wise.
+     */
+    public static final float BRICKS_LEFT_DIST_FROM_RIGHT = 100f;
+
+    /**
+     * Distance, in pixels, outside the camera's view beyond which a puck may skip updates.
+     */
+    public static final float CULLING_FAR_DISTANCE = 200f;
+
+    /**
+     * Approximate size, in pixels, of each side of the tiles the brick field is drawn in.
+     */
+    public static final float BRICK_TILE_SIZE = 256f;
 }
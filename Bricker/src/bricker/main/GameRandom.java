@@ -0,0 +1,66 @@
+package bricker.main;
+
+import java.util.SplittableRandom;
+
+
+/**
+ * The GameRandom class is the single source of randomness of a game: the strategies given to bricks, the
+ * direction of the ball after it's reset and the directions of pucks are all drawn from it. It's seeded
+ * once, so that a game played with the same seed and the same input is reproduced exactly.
+ */
+public class GameRandom {
+    private final long seed;
+    private final SplittableRandom random;
+
+    /**
+     * Constructor.
+     * @param seed The seed all random values are derived from.
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Constructor. Uses a random seed, which can be read with getSeed to reproduce the game.
+     */
+    public GameRandom() {
+        this(randomSeed());
+    }
+
+    /**
+     * @return The seed this object was created with.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * @param bound The upper bound (exclusive), must be positive.
+     * @return A uniformly distributed int between 0 (inclusive) and bound (exclusive).
+     */
+    public int nextInt(int bound) {
+        return this.random.nextInt(bound);
+    }
+
+    /**
+     * @return A uniformly distributed double between 0 (inclusive) and 1 (exclusive).
+     */
+    public double nextDouble() {
+        return this.random.nextDouble();
+    }
+
+    /**
+     * @return A uniformly distributed boolean.
+     */
+    public boolean nextBoolean() {
+        return this.random.nextBoolean();
+    }
+
+    /**
+     * @return A new seed, different between calls and between runs of the program.
+     */
+    public static long randomSeed() {
+        return new SplittableRandom().nextLong();
+    }
+}
@@ -0,0 +1,199 @@
+package bricker.main;
+
+import bricker.brick_field.BrickField;
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.Puck;
+import bricker.gameobjects.TempPaddle;
+import danogl.GameObject;
+import danogl.gui.rendering.Camera;
+import danogl.util.Vector2;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The GameSnapshot class holds a copy of the state of a game at some frame: the brick field (live bricks and
+ * their strategies), the game's counters and the state of the ball, the paddle, and the pucks, falling hearts
+ * and temporary paddles in the game. It's taken and restored by BrickerGameManager, so that the game can go
+ * back to that frame without being initialized again.
+ * The randomness of the game isn't part of the snapshot; it goes on from where it was when restoring.
+ */
+public class GameSnapshot {
+    private final BrickField brickField;
+    private final int bricksLeft;
+    private final int livesLeft;
+    private final int paddleLives;
+    private final int hitsBeforeCameraChange;
+    private final ObjectState ball;
+    private final ObjectState paddle;
+    private final List<ObjectState> pucks;
+    private final List<ObjectState> hearts;
+    private final List<TempPaddle> tempPaddles;
+    private final List<ObjectState> tempPaddleStates;
+    private final Camera camera;
+
+    /**
+     * Constructor. Copies the state of the given game; the given objects aren't changed.
+     * @param brickField             The brick field of the game.
+     * @param bricksLeft             Number of bricks left in the game.
+     * @param livesLeft              Number of lives left to the player.
+     * @param paddleLives            Number of collisions left before the temporary paddle disappears.
+     * @param hitsBeforeCameraChange Number of hits the ball had before the camera last changed.
+     * @param ball                   The main ball.
+     * @param paddle                 The main paddle.
+     * @param pucks                  The pucks in the game.
+     * @param hearts                 The falling hearts in the game.
+     * @param tempPaddles            The temporary paddles in the game.
+     * @param camera                 The camera of the game, null if there's none.
+     */
+    GameSnapshot(BrickField brickField, int bricksLeft, int livesLeft, int paddleLives,
+                 int hitsBeforeCameraChange, Ball ball, GameObject paddle, List<GameObject> pucks,
+                 List<GameObject> hearts, List<GameObject> tempPaddles, Camera camera) {
+        this.brickField = brickField.copy();
+        this.bricksLeft = bricksLeft;
+        this.livesLeft = livesLeft;
+        this.paddleLives = paddleLives;
+        this.hitsBeforeCameraChange = hitsBeforeCameraChange;
+        this.ball = new ObjectState(ball);
+        this.paddle = new ObjectState(paddle);
+        this.pucks = statesOf(pucks);
+        this.hearts = statesOf(hearts);
+        // temporary paddles only ever move, so the objects themselves are kept and put back when restoring
+        this.tempPaddles = new ArrayList<>(tempPaddles.size());
+        for (GameObject tempPaddle : tempPaddles) {
+            this.tempPaddles.add((TempPaddle) tempPaddle);
+        }
+        this.tempPaddleStates = statesOf(tempPaddles);
+        // the camera only follows the ball, which is kept between snapshots
+        this.camera = camera;
+    }
+
+    /**
+     * @return Copy of the brick field of the game; restoring copies it again.
+     */
+    BrickField getBrickField() {
+        return this.brickField;
+    }
+
+    /**
+     * @return Number of bricks left in the game.
+     */
+    int getBricksLeft() {
+        return this.bricksLeft;
+    }
+
+    /**
+     * @return Number of lives left to the player.
+     */
+    int getLivesLeft() {
+        return this.livesLeft;
+    }
+
+    /**
+     * @return Number of collisions left before the temporary paddle disappears.
+     */
+    int getPaddleLives() {
+        return this.paddleLives;
+    }
+
+    /**
+     * @return Number of hits the ball had before the camera last changed.
+     */
+    int getHitsBeforeCameraChange() {
+        return this.hitsBeforeCameraChange;
+    }
+
+    /**
+     * @return State of the main ball.
+     */
+    ObjectState getBall() {
+        return this.ball;
+    }
+
+    /**
+     * @return State of the main paddle.
+     */
+    ObjectState getPaddle() {
+        return this.paddle;
+    }
+
+    /**
+     * @return States of the pucks in the game.
+     */
+    List<ObjectState> getPucks() {
+        return this.pucks;
+    }
+
+    /**
+     * @return States of the falling hearts in the game.
+     */
+    List<ObjectState> getHearts() {
+        return this.hearts;
+    }
+
+    /**
+     * @return The temporary paddles in the game.
+     */
+    List<TempPaddle> getTempPaddles() {
+        return this.tempPaddles;
+    }
+
+    /**
+     * @return States of the temporary paddles in the game, in the order of getTempPaddles.
+     */
+    List<ObjectState> getTempPaddleStates() {
+        return this.tempPaddleStates;
+    }
+
+    /**
+     * @return The camera of the game, null if there was none.
+     */
+    Camera getCamera() {
+        return this.camera;
+    }
+
+    private static List<ObjectState> statesOf(List<GameObject> objects) {
+        List<ObjectState> states = new ArrayList<>(objects.size());
+        for (GameObject obj : objects) {
+            states.add(new ObjectState(obj));
+        }
+        return states;
+    }
+
+    /**
+     * The ObjectState class holds a copy of the position, size and velocity of a game object, and of the
+     * collision counter of a ball.
+     */
+    static final class ObjectState {
+        private final Vector2 topLeftCorner;
+        private final Vector2 dimensions;
+        private final Vector2 velocity;
+        private final int collisionCounter;
+
+        private ObjectState(GameObject obj) {
+            // the engine's vectors are mutable, so they're copied
+            this.topLeftCorner = obj.getTopLeftCorner().getImmutableCopy();
+            this.dimensions = obj.getDimensions().getImmutableCopy();
+            this.velocity = obj.getVelocity().getImmutableCopy();
+            this.collisionCounter = obj instanceof Ball ? ((Ball) obj).getCollisionCounter() : 0;
+        }
+
+        /**
+         * Sets the state of a game object to this state.
+         * @param obj The object to set.
+         */
+        void applyTo(GameObject obj) {
+            obj.setDimensions(this.dimensions);
+            obj.setTopLeftCorner(this.topLeftCorner);
+            obj.setVelocity(this.velocity);
+            if (obj instanceof Ball) {
+                ((Ball) obj).setCollisionCounter(this.collisionCounter);
+            }
+            // a restored puck starts over, without the time of updates it skipped before
+            if (obj instanceof Puck) {
+                ((Puck) obj).clearSkippedTime();
+            }
+        }
+    }
+}
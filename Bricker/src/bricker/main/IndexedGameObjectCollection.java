@@ -0,0 +1,213 @@
+package bricker.main;
+
+import static bricker.main.Constants.BRICKS_LAYER;
+
+import bricker.brick_field.BrickGrid;
+import bricker.gameobjects.Brick;
+import bricker.gameobjects.ObjectKind;
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
+import danogl.gui.MessageHandler;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * The IndexedGameObjectCollection class is a collection of game objects that additionally keeps an index of
+ * the dynamic objects of the game (objects of a tracked kind in the default layer, such as pucks and falling
+ * hearts). The index is updated as objects are added and removed, so finding these objects costs as much as
+ * the number of live dynamic objects, instead of a scan over all the objects of the game. Each indexed object
+ * keeps its position in the list of its kind, so removing it doesn't search the list: the last object of the
+ * list takes its place.
+ * Bricks are kept in their own layer, which the engine doesn't check for collisions. Instead, each object of
+ * the default layer is tested only against the bricks around it, found through a BrickGrid. The grid creates
+ * Brick objects only for the cells these objects reach, and the collection releases them again once no
+ * object of the default layer is near them, so the number of brick objects depends on the number of moving
+ * objects rather than on the size of the level.
+ */
+public class IndexedGameObjectCollection extends GameObjectCollection {
+    private final Map<ObjectKind, List<GameObject>> dynamicObjects;
+    private final Map<GameObject, Integer> dynamicObjectIndices;
+    private final Set<Brick> pendingBrickRemovals;
+    private final BrickGrid.BrickVisitor handlePairWithQueriedObject;
+    private final BrickGrid.BrickVisitor removeReleasedBrick;
+    private BrickGrid brickGrid;
+    private GameObject queriedObject;
+
+    /**
+     * Constructor.
+     * @param messages Handler used for reporting messages.
+     * @param trackedKinds Kinds of the dynamic objects to index.
+     */
+    public IndexedGameObjectCollection(MessageHandler messages, List<ObjectKind> trackedKinds) {
+        super(messages);
+        this.dynamicObjects = new EnumMap<>(ObjectKind.class);
+        for (ObjectKind kind : trackedKinds) {
+            this.dynamicObjects.put(kind, new ArrayList<>());
+        }
+        this.dynamicObjectIndices = new IdentityHashMap<>();
+        this.pendingBrickRemovals = new LinkedHashSet<>();
+        // the brick is passed first, same as when the bricks were in the static objects layer
+        this.handlePairWithQueriedObject = brick -> handlePair(brick, this.queriedObject);
+        // a released brick leaves the layers right away, without going through the pending brick removals
+        this.removeReleasedBrick = brick -> super.removeGameObject(brick, BRICKS_LAYER);
+    }
+
+    /**
+     * Sets the grid that bricks added to the BRICKS_LAYER are placed in. Should be called before the bricks
+     * are added.
+     * @param brickGrid The grid of the game's bricks.
+     */
+    public void setBrickGrid(BrickGrid brickGrid) {
+        this.brickGrid = brickGrid;
+    }
+
+    /**
+     * @return The grid of the game's bricks, null if none was set.
+     */
+    public BrickGrid getBrickGrid() {
+        return this.brickGrid;
+    }
+
+    /**
+     * Adds the object to the collection, and to the index in case it's a dynamic object.
+     * @param obj The GameObject to add.
+     * @param layerId The id of the layer to which obj should be added.
+     */
+    @Override
+    public void addGameObject(GameObject obj, int layerId) {
+        super.addGameObject(obj, layerId);
+        if (isGridBrick(obj, layerId)) {
+            this.brickGrid.add((Brick) obj);
+        }
+        List<GameObject> objectsOfKind = indexedObjectsOf(obj, layerId);
+        if (objectsOfKind != null && !this.dynamicObjectIndices.containsKey(obj)) {
+            this.dynamicObjectIndices.put(obj, objectsOfKind.size());
+            objectsOfKind.add(obj);
+        }
+    }
+
+    /**
+     * Removes the object from the collection, and from the index in case it's a dynamic object.
+     * @param obj The GameObject to remove.
+     * @param layerId id of the layer to remove object from
+     * @return false if the object does not exist in the collection, or it exists but is already queued for
+     * removal, true if removal was successful.
+     */
+    @Override
+    public boolean removeGameObject(GameObject obj, int layerId) {
+        boolean wasRemoved = super.removeGameObject(obj, layerId);
+        List<GameObject> objectsOfKind = indexedObjectsOf(obj, layerId);
+        if (wasRemoved && objectsOfKind != null) {
+            removeDynamicObject(objectsOfKind, obj);
+        }
+        // like the layers, the grid is only updated at the end of the frame
+        if (wasRemoved && isGridBrick(obj, layerId)) {
+            this.pendingBrickRemovals.add((Brick) obj);
+        }
+        return wasRemoved;
+    }
+
+    /**
+     * Applies pending additions and removals, both to the layers and to the brick grid.
+     * @param deltaTime Time since last frame
+     */
+    @Override
+    public void update(float deltaTime) {
+        super.update(deltaTime);
+        for (Brick brick : this.pendingBrickRemovals) {
+            this.brickGrid.remove(brick);
+        }
+        this.pendingBrickRemovals.clear();
+    }
+
+    /**
+     * Looks for collisions between the layers set to collide, and then between each object of the default
+     * layer and the bricks whose grid cells it overlaps.
+     */
+    @Override
+    public void handleCollisions() {
+        super.handleCollisions();
+        if (this.brickGrid == null) {
+            return;
+        }
+        for (GameObject obj : objectsInLayer(Layer.DEFAULT)) {
+            this.queriedObject = obj;
+            this.brickGrid.forEachBrickNear(obj, this.handlePairWithQueriedObject);
+        }
+        this.queriedObject = null;
+    }
+
+    /**
+     * Releases the Brick objects that no object of the default layer is near (see BrickGrid.release): their
+     * bricks are kept as cells of the field, and get new Brick objects once an object comes near them again.
+     * Bricks that were removed in this frame are left for the end of the frame. The bricks near each object
+     * are marked through the grid, so this costs as much as the number of objects and of Brick objects,
+     * rather than their product.
+     * @param distance Distance, in pixels, from the box of an object of the default layer under which the
+     *                 bricks of the cells it overlaps are near it.
+     */
+    public void releaseDistantBricks(float distance) {
+        if (this.brickGrid == null) {
+            return;
+        }
+        for (GameObject obj : objectsInLayer(Layer.DEFAULT)) {
+            this.brickGrid.markBricksNear(obj, distance);
+        }
+        for (Brick brick : this.pendingBrickRemovals) {
+            this.brickGrid.markBrick(brick);
+        }
+        this.brickGrid.releaseUnmarkedBricks(this.removeReleasedBrick);
+    }
+
+    /**
+     * Returns the live dynamic objects of a tracked kind. The list is updated by the collection itself, and a
+     * removal moves the last object of the list to the place of the removed one; callers that remove objects
+     * while going over it should go from its end to its start, so that each object is visited once.
+     * @param kind A tracked kind.
+     * @return List of the dynamic objects of the given kind, in the order they were added, except that
+     * removals reorder it.
+     */
+    public List<GameObject> dynamicObjectsOf(ObjectKind kind) {
+        return this.dynamicObjects.get(kind);
+    }
+
+    /**
+     * @param brick A brick of the grid.
+     * @return Whether the brick was removed during this frame, and is only waiting to leave the grid.
+     */
+    public boolean isBrickRemovalPending(Brick brick) {
+        return this.pendingBrickRemovals.contains(brick);
+    }
+
+    private void removeDynamicObject(List<GameObject> objectsOfKind, GameObject obj) {
+        Integer index = this.dynamicObjectIndices.remove(obj);
+        if (index == null) {
+            return;
+        }
+        int lastIndex = objectsOfKind.size() - 1;
+        GameObject last = objectsOfKind.remove(lastIndex);
+        if (index != lastIndex) {
+            objectsOfKind.set(index, last);
+            this.dynamicObjectIndices.put(last, index);
+        }
+    }
+
+    private boolean isGridBrick(GameObject obj, int layerId) {
+        return this.brickGrid != null && layerId == BRICKS_LAYER && ObjectKind.of(obj) == ObjectKind.BRICK;
+    }
+
+    private List<GameObject> indexedObjectsOf(GameObject obj, int layerId) {
+        if (obj == null || layerId != Layer.DEFAULT) {
+            return null;
+        }
+        return this.dynamicObjects.get(ObjectKind.of(obj));
+    }
+}
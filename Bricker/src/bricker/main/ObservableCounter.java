@@ -0,0 +1,99 @@
+package bricker.main;
+
+import danogl.util.Counter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The ObservableCounter class is a Counter that tells its listeners whenever its value changes, so that
+ * objects showing the value (such as the lives counters) only do work when there's something new to show,
+ * instead of checking the value in every frame. The value may also be bounded from above, in which case
+ * changes that would pass the bound leave the counter at the bound.
+ */
+public class ObservableCounter extends Counter {
+    private final int maxValue;
+    private final List<CounterListener> listeners;
+
+    /**
+     * Constructor.
+     * @param initValue The initial value of the counter.
+     * @param maxValue  The maximal value of the counter.
+     */
+    public ObservableCounter(int initValue, int maxValue) {
+        super(Math.min(initValue, maxValue));
+        this.maxValue = maxValue;
+        this.listeners = new ArrayList<>();
+    }
+
+    /**
+     * Constructor. Creates an unbounded counter.
+     * @param initValue The initial value of the counter.
+     */
+    public ObservableCounter(int initValue) {
+        this(initValue, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Adds a listener, which is called on every later change of the value.
+     * @param listener Called with the old and the new value of the counter.
+     */
+    public void addListener(CounterListener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Increments the value by 1, unless it's at its maximal value.
+     */
+    @Override
+    public void increment() {
+        increaseBy(1);
+    }
+
+    /**
+     * Decrements the value by 1.
+     */
+    @Override
+    public void decrement() {
+        increaseBy(-1);
+    }
+
+    /**
+     * Resets the value to zero.
+     */
+    @Override
+    public void reset() {
+        increaseBy(-value());
+    }
+
+    /**
+     * Increases the value by the given amount, up to its maximal value, and tells the listeners in case the
+     * value changed.
+     * @param val Amount to add to the value (can be negative).
+     */
+    @Override
+    public void increaseBy(int val) {
+        int oldValue = value();
+        int newValue = (int) Math.min((long) oldValue + val, this.maxValue);
+        if (newValue == oldValue) {
+            return;
+        }
+        super.increaseBy(newValue - oldValue);
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).onValueChanged(oldValue, newValue);
+        }
+    }
+
+    /**
+     * The CounterListener interface is called back when the value of an ObservableCounter changes.
+     */
+    @FunctionalInterface
+    public interface CounterListener {
+        /**
+         * @param oldValue The value before the change.
+         * @param newValue The value after the change.
+         */
+        void onValueChanged(int oldValue, int newValue);
+    }
+}
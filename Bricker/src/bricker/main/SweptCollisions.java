@@ -0,0 +1,316 @@
+package bricker.main;
+
+import static bricker.main.Constants.MAX_SWEPT_IMPACTS;
+
+import bricker.brick_field.BrickField;
+import bricker.brick_field.BrickGrid;
+import bricker.brick_strategies.BrickHitQueue;
+import bricker.gameobjects.Brick;
+import bricker.gameobjects.ObjectKind;
+import danogl.GameObject;
+import danogl.collisions.Collision;
+import danogl.util.MutableVector2;
+import danogl.util.Vector2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * The SweptCollisions class moves fast objects (balls and pucks) along their whole path in a frame,
+ * instead of jumping to where they end up, so they can't pass through thin bricks or borders in a single
+ * frame.
+ * The path is tested against the borders, the paddles and the live bricks it crosses (the paddles are
+ * taken as moving with their current velocity from where they were when the frame started, see startFrame,
+ * so the result doesn't depend on whether they were updated before the object), and the object stops at
+ * the first impact (the time of impact of its box with the other box), where both objects get their
+ * onCollisionEnter call, as they would from the engine. The object then moves on with the velocity it was
+ * left with, for the rest of the frame, so several impacts of a single frame are handled in the order they
+ * happen.
+ * Objects moved this way shouldn't also collide with the bricks and borders through the engine (see
+ * handles).
+ */
+public class SweptCollisions {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final IndexedGameObjectCollection gameObjects;
+    private final BrickGrid brickGrid;
+    private final BrickHitQueue brickHits;
+    private final List<GameObject> obstacles;
+    private final ImpactCollision moverCollision;
+    private final ImpactCollision otherCollision;
+    private final List<GameObject> frameStartObjects;
+    private float[] frameStartX;
+    private float[] frameStartY;
+    private float impactTime;
+    private Vector2 impactNormal;
+    private GameObject impactObject;
+
+    /**
+     * Constructor.
+     * @param gameObjects The collection of game objects, used to skip bricks that were already hit.
+     * @param brickGrid   The grid of the game's bricks.
+     * @param brickHits   The queue of the bricks hit in the current frame, which are skipped.
+     * @param obstacles   The objects, other than bricks and temporary paddles, that the moving objects
+     *                    collide with: the borders and the paddle.
+     */
+    public SweptCollisions(IndexedGameObjectCollection gameObjects, BrickGrid brickGrid,
+                           BrickHitQueue brickHits, List<GameObject> obstacles) {
+        this.gameObjects = gameObjects;
+        this.brickGrid = brickGrid;
+        this.brickHits = brickHits;
+        this.obstacles = obstacles;
+        this.moverCollision = new ImpactCollision();
+        this.otherCollision = new ImpactCollision();
+        this.frameStartObjects = new ArrayList<>();
+        this.frameStartX = new float[INITIAL_CAPACITY];
+        this.frameStartY = new float[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Keeps where the obstacles and the temporary paddles are, as the positions they move from during the
+     * frame. Should be called before the objects of the frame are updated.
+     */
+    public void startFrame() {
+        this.frameStartObjects.clear();
+        addFrameStartPositions(this.obstacles);
+        addFrameStartPositions(this.gameObjects.dynamicObjectsOf(ObjectKind.TEMP_PADDLE));
+    }
+
+    /**
+     * @param other A game object.
+     * @return Whether collisions with the object are found by this class rather than by the engine.
+     */
+    public boolean handles(GameObject other) {
+        ObjectKind kind = ObjectKind.of(other);
+        return kind == ObjectKind.BRICK || kind == ObjectKind.TEMP_PADDLE || this.obstacles.contains(other);
+    }
+
+    /**
+     * Moves an object by its velocity for a single frame, stopping at each impact along the way. Should be
+     * called from the object's update, instead of letting the engine move it.
+     * @param mover     The moving object.
+     * @param deltaTime The time, in seconds, that passed since the last frame.
+     */
+    public void move(GameObject mover, float deltaTime) {
+        float timeLeft = deltaTime;
+        for (int i = 0; i < MAX_SWEPT_IMPACTS && timeLeft > 0; i++) {
+            Vector2 velocity = mover.getVelocity();
+            float dx = velocity.x() * timeLeft;
+            float dy = velocity.y() * timeLeft;
+            findFirstImpact(mover, dx, dy, deltaTime - timeLeft, timeLeft);
+            if (this.impactObject == null) {
+                moveBy(mover, dx, dy);
+                return;
+            }
+            moveBy(mover, dx * this.impactTime, dy * this.impactTime);
+            timeLeft -= timeLeft * this.impactTime;
+            collide(mover, velocity);
+        }
+        // the rest of a frame with too many impacts is dropped, leaving the object at its last impact
+    }
+
+    private void findFirstImpact(GameObject mover, float dx, float dy, float elapsed, float time) {
+        this.impactObject = null;
+        this.impactTime = 1;
+        Vector2 topLeft = mover.getTopLeftCorner();
+        Vector2 dimensions = mover.getDimensions();
+        findFirstImpactIn(this.obstacles, mover, topLeft, dimensions, dx, dy, elapsed, time);
+        findFirstImpactIn(this.gameObjects.dynamicObjectsOf(ObjectKind.TEMP_PADDLE), mover, topLeft,
+                dimensions, dx, dy, elapsed, time);
+        findFirstBrickImpact(topLeft, dimensions, dx, dy);
+    }
+
+    private void findFirstImpactIn(List<GameObject> others, GameObject mover, Vector2 topLeft,
+                                   Vector2 dimensions, float dx, float dy, float elapsed, float time) {
+        for (int i = 0; i < others.size(); i++) {
+            GameObject other = others.get(i);
+            if (!other.shouldCollideWith(mover)) {
+                continue;
+            }
+            // paddles move too: they're taken where they are after the part of the frame that passed, counted
+            // from where they started the frame, and the path is taken relative to them
+            int start = frameStartIndexOf(other);
+            float startX = start < 0 ? other.getTopLeftCorner().x() : this.frameStartX[start];
+            float startY = start < 0 ? other.getTopLeftCorner().y() : this.frameStartY[start];
+            Vector2 otherVelocity = other.getVelocity();
+            float otherX = startX + otherVelocity.x() * elapsed;
+            float otherY = startY + otherVelocity.y() * elapsed;
+            Vector2 otherDimensions = other.getDimensions();
+            if (sweep(topLeft, dimensions, dx - otherVelocity.x() * time, dy - otherVelocity.y() * time,
+                    otherX, otherY, otherDimensions.x(), otherDimensions.y())) {
+                this.impactObject = other;
+            }
+        }
+    }
+
+    private void addFrameStartPositions(List<GameObject> objects) {
+        for (int i = 0; i < objects.size(); i++) {
+            int index = this.frameStartObjects.size();
+            if (index == this.frameStartX.length) {
+                this.frameStartX = Arrays.copyOf(this.frameStartX, index * 2);
+                this.frameStartY = Arrays.copyOf(this.frameStartY, index * 2);
+            }
+            GameObject obj = objects.get(i);
+            this.frameStartObjects.add(obj);
+            this.frameStartX[index] = obj.getTopLeftCorner().x();
+            this.frameStartY[index] = obj.getTopLeftCorner().y();
+        }
+    }
+
+    private int frameStartIndexOf(GameObject obj) {
+        // a handful of borders and paddles; an object added during the frame has none
+        for (int i = 0; i < this.frameStartObjects.size(); i++) {
+            if (this.frameStartObjects.get(i) == obj) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void findFirstBrickImpact(Vector2 topLeft, Vector2 dimensions, float dx, float dy) {
+        // only the cells the box passes through in this frame can be hit
+        BrickField brickField = this.brickGrid.getBrickField();
+        float minX = Math.min(topLeft.x(), topLeft.x() + dx);
+        float minY = Math.min(topLeft.y(), topLeft.y() + dy);
+        int firstCol = Math.max(this.brickGrid.colOf(minX), 0);
+        int lastCol = Math.min(this.brickGrid.colOf(minX + Math.abs(dx) + dimensions.x()),
+                this.brickGrid.getCols() - 1);
+        int firstRow = Math.max(this.brickGrid.rowOf(minY), 0);
+        int lastRow = Math.min(this.brickGrid.rowOf(minY + Math.abs(dy) + dimensions.y()),
+                this.brickGrid.getRows() - 1);
+        Vector2 gridTopLeft = this.brickGrid.getTopLeftCorner();
+        Vector2 brickSize = this.brickGrid.getBrickSize();
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                if (!brickField.isAlive(brickField.cellOf(row, col))) {
+                    continue;
+                }
+                // the brick's box is known from its cell, so only bricks that are hit are created as objects
+                float brickX = gridTopLeft.x() + col * this.brickGrid.getCellWidth();
+                float brickY = gridTopLeft.y() + row * this.brickGrid.getCellHeight();
+                float previousTime = this.impactTime;
+                Vector2 previousNormal = this.impactNormal;
+                if (!sweep(topLeft, dimensions, dx, dy, brickX, brickY, brickSize.x(), brickSize.y())) {
+                    continue;
+                }
+                Brick brick = this.brickGrid.get(row, col);
+                // a brick that was hit earlier is only removed from the grid at the end of the frame
+                if (brick == null || this.brickHits.isQueued(brick)
+                        || this.gameObjects.isBrickRemovalPending(brick)) {
+                    this.impactTime = previousTime;
+                    this.impactNormal = previousNormal;
+                    continue;
+                }
+                this.impactObject = brick;
+            }
+        }
+    }
+
+    private boolean sweep(Vector2 topLeft, Vector2 dimensions, float dx, float dy,
+                          float otherX, float otherY, float otherWidth, float otherHeight) {
+        // the other box grown by the mover's size, which the mover's top-left corner mustn't enter
+        float minX = otherX - dimensions.x();
+        float maxX = otherX + otherWidth;
+        float minY = otherY - dimensions.y();
+        float maxY = otherY + otherHeight;
+        float entryX = Float.NEGATIVE_INFINITY;
+        float exitX = Float.POSITIVE_INFINITY;
+        if (dx != 0) {
+            entryX = Math.min((minX - topLeft.x()) / dx, (maxX - topLeft.x()) / dx);
+            exitX = Math.max((minX - topLeft.x()) / dx, (maxX - topLeft.x()) / dx);
+        } else if (topLeft.x() <= minX || topLeft.x() >= maxX) {
+            return false;
+        }
+        float entryY = Float.NEGATIVE_INFINITY;
+        float exitY = Float.POSITIVE_INFINITY;
+        if (dy != 0) {
+            entryY = Math.min((minY - topLeft.y()) / dy, (maxY - topLeft.y()) / dy);
+            exitY = Math.max((minY - topLeft.y()) / dy, (maxY - topLeft.y()) / dy);
+        } else if (topLeft.y() <= minY || topLeft.y() >= maxY) {
+            return false;
+        }
+        float entry = Math.max(entryX, entryY);
+        // boxes that already overlap, or that only touch and move apart, aren't an impact
+        if (entry < 0 || entry >= Math.min(exitX, exitY) || entry >= this.impactTime) {
+            return false;
+        }
+        this.impactTime = entry;
+        if (entryX > entryY) {
+            this.impactNormal = dx > 0 ? Vector2.LEFT : Vector2.RIGHT;
+        } else {
+            this.impactNormal = dy > 0 ? Vector2.UP : Vector2.DOWN;
+        }
+        return true;
+    }
+
+    private void collide(GameObject mover, Vector2 velocity) {
+        Vector2 topLeft = mover.getTopLeftCorner();
+        Vector2 dimensions = mover.getDimensions();
+        float centerX = topLeft.x() + dimensions.x() * 0.5f;
+        float centerY = topLeft.y() + dimensions.y() * 0.5f;
+        this.moverCollision.set(this.impactNormal, centerX, centerY, velocity.x(), velocity.y());
+        this.otherCollision.set(opposite(this.impactNormal), centerX, centerY, -velocity.x(), -velocity.y());
+        // same order as the engine's brick pass, the other object first
+        GameObject other = this.impactObject;
+        other.onCollisionEnter(mover, this.otherCollision);
+        mover.onCollisionEnter(other, this.moverCollision);
+    }
+
+    private static Vector2 opposite(Vector2 normal) {
+        // the normals are the unit axis vectors, so the opposite is found without allocating a new vector
+        if (normal == Vector2.LEFT) {
+            return Vector2.RIGHT;
+        }
+        if (normal == Vector2.RIGHT) {
+            return Vector2.LEFT;
+        }
+        return normal == Vector2.UP ? Vector2.DOWN : Vector2.UP;
+    }
+
+    private static void moveBy(GameObject mover, float dx, float dy) {
+        Vector2 topLeft = mover.getTopLeftCorner();
+        mover.transform().setTopLeftCorner(topLeft.x() + dx, topLeft.y() + dy);
+    }
+
+    /**
+     * The ImpactCollision class is the collision information given to the two objects of an impact. It's
+     * reused for every impact.
+     */
+    private static class ImpactCollision implements Collision {
+        private final MutableVector2 collisionPoint = new MutableVector2();
+        private final MutableVector2 relativeVelocity = new MutableVector2();
+        private Vector2 normal = Vector2.ZERO;
+
+        private void set(Vector2 normal, float pointX, float pointY, float velocityX, float velocityY) {
+            this.normal = normal;
+            this.collisionPoint.setXY(pointX, pointY);
+            this.relativeVelocity.setXY(velocityX, velocityY);
+        }
+
+        @Override
+        public Vector2 getNormal() {
+            return this.normal;
+        }
+
+        @Override
+        public Vector2 getCollisionPoint() {
+            return this.collisionPoint;
+        }
+
+        @Override
+        public Vector2 getPenetrationArea() {
+            return Vector2.ZERO;
+        }
+
+        @Override
+        public Vector2 getRelativeVelocity() {
+            return this.relativeVelocity;
+        }
+
+        @Override
+        public void onFrameStart() {
+        }
+    }
+}
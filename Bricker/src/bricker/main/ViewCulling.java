@@ -0,0 +1,113 @@
+package bricker.main;
+
+import danogl.GameObject;
+import danogl.components.CoordinateSpace;
+import danogl.gui.rendering.Camera;
+import danogl.util.Vector2;
+
+
+/**
+ * The ViewCulling class tells which objects are inside the visible part of the world: the active camera's
+ * view, or the window when there's no camera. Objects outside of it aren't drawn.
+ * It can also slow down the updates of objects far outside the view: such objects are only updated every
+ * few frames, with the time of the frames they skipped (see skipsUpdate). This is off unless a far update
+ * interval is set, since moving in larger steps may change how far objects collide.
+ * Objects without an area (such as the brick field renderer) may draw beyond their box, and are always
+ * taken as visible.
+ */
+public class ViewCulling {
+    private final Vector2 windowDimensions;
+    private final float farDistance;
+    private int farUpdateInterval;
+    private long frame;
+    private float viewX;
+    private float viewY;
+    private float viewWidth;
+    private float viewHeight;
+
+    /**
+     * Constructor. Updates aren't slowed down until a far update interval is set.
+     * @param windowDimensions Window dimensions vector, the view when there's no camera.
+     * @param farDistance      Distance, in pixels, outside the view beyond which an object is far.
+     */
+    public ViewCulling(Vector2 windowDimensions, float farDistance) {
+        this.windowDimensions = windowDimensions;
+        this.farDistance = farDistance;
+        this.farUpdateInterval = 1;
+        setView(null);
+    }
+
+    /**
+     * Sets how often objects far outside the view are updated.
+     * @param farUpdateInterval Number of frames between the updates of a far object, 1 to update far
+     *                          objects in every frame.
+     */
+    public void setFarUpdateInterval(int farUpdateInterval) {
+        this.farUpdateInterval = Math.max(farUpdateInterval, 1);
+    }
+
+    /**
+     * Sets the view to the current bounds of the camera. Should be called whenever the camera may have
+     * moved, before objects are checked.
+     * @param camera The active camera, null if there's none.
+     */
+    public void setView(Camera camera) {
+        if (camera == null) {
+            this.viewX = 0;
+            this.viewY = 0;
+            this.viewWidth = this.windowDimensions.x();
+            this.viewHeight = this.windowDimensions.y();
+            return;
+        }
+        this.viewX = camera.getTopLeftCorner().x();
+        this.viewY = camera.getTopLeftCorner().y();
+        this.viewWidth = camera.getDimensions().x();
+        this.viewHeight = camera.getDimensions().y();
+    }
+
+    /**
+     * Moves on to the next frame, whose number decides which far objects are updated. Should be called once
+     * at the start of each frame.
+     */
+    public void nextFrame() {
+        this.frame++;
+    }
+
+    /**
+     * @param obj A game object.
+     * @return Whether any part of the object's box is inside the view.
+     */
+    public boolean isVisible(GameObject obj) {
+        Vector2 dimensions = obj.getDimensions();
+        if (dimensions.x() <= 0 || dimensions.y() <= 0) {
+            return true;
+        }
+        // camera coordinates are already window coordinates
+        if (obj.getCoordinateSpace() == CoordinateSpace.CAMERA_COORDINATES) {
+            return overlaps(obj, 0, 0, this.windowDimensions.x(), this.windowDimensions.y(), 0);
+        }
+        return overlaps(obj, this.viewX, this.viewY, this.viewWidth, this.viewHeight, 0);
+    }
+
+    /**
+     * Tells whether an object skips its update in this frame, which is the case for objects far outside the
+     * view, except once every far update interval. An object that skips updates should add their time to
+     * its next update.
+     * @param obj A game object in world coordinates.
+     * @return Whether the object shouldn't be updated in this frame.
+     */
+    public boolean skipsUpdate(GameObject obj) {
+        if (this.farUpdateInterval == 1 || this.frame % this.farUpdateInterval == 0) {
+            return false;
+        }
+        return !overlaps(obj, this.viewX, this.viewY, this.viewWidth, this.viewHeight, this.farDistance);
+    }
+
+    private static boolean overlaps(GameObject obj, float x, float y, float width, float height,
+                                    float margin) {
+        Vector2 topLeft = obj.getTopLeftCorner();
+        Vector2 dimensions = obj.getDimensions();
+        return topLeft.x() < x + width + margin && x - margin < topLeft.x() + dimensions.x()
+                && topLeft.y() < y + height + margin && y - margin < topLeft.y() + dimensions.y();
+    }
+}
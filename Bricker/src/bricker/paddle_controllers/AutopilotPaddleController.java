@@ -0,0 +1,74 @@
+package bricker.paddle_controllers;
+
+import static bricker.main.Constants.BORDER_THICKNESS;
+import static bricker.main.Constants.FOLLOWING_DEAD_ZONE;
+
+import bricker.gameobjects.Paddle;
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+import java.util.function.Supplier;
+
+
+/**
+ * The AutopilotPaddleController class is a bot that moves the paddles to where the ball will land. While the
+ * ball falls, the landing x is computed analytically from the ball's position and velocity, reflecting the
+ * ball's path off the side borders, instead of stepping the ball frame by frame. While the ball rises it's
+ * about to bounce off bricks, which would make any prediction wrong, so the paddles just follow it.
+ */
+public class AutopilotPaddleController implements PaddleController {
+    private final Supplier<? extends GameObject> ball;
+    private final Vector2 windowDimensions;
+
+    /**
+     * Constructor.
+     * @param ball             Supplies the followed ball of the current game.
+     * @param windowDimensions Window dimensions vector; the side borders are along its left and right edges.
+     */
+    public AutopilotPaddleController(Supplier<? extends GameObject> ball, Vector2 windowDimensions) {
+        this.ball = ball;
+        this.windowDimensions = windowDimensions;
+    }
+
+    /**
+     * @param paddle The paddle that asks where to move.
+     * @return Direction from the paddle's center to where the ball will reach the paddle's height, 0 if
+     * they're close enough.
+     */
+    @Override
+    public int getDirection(Paddle paddle) {
+        GameObject ball = this.ball.get();
+        // the centers are computed from the corners, since getCenter allocates a new vector
+        float radius = ball.getDimensions().x() * 0.5f;
+        float ballX = ball.getTopLeftCorner().x() + radius;
+        float ballY = ball.getTopLeftCorner().y() + ball.getDimensions().y() * 0.5f;
+        float landingX = predictLandingX(ballX, ballY, ball.getVelocity(), radius,
+                paddle.getTopLeftCorner().y() - radius);
+        float paddleX = paddle.getTopLeftCorner().x() + paddle.getDimensions().x() * 0.5f;
+        float distance = landingX - paddleX;
+        if (Math.abs(distance) <= FOLLOWING_DEAD_ZONE) {
+            return 0;
+        }
+        return distance < 0 ? -1 : 1;
+    }
+
+    private float predictLandingX(float x, float y, Vector2 velocity, float radius, float landingY) {
+        // the range the ball's center moves in without touching a side border
+        float left = BORDER_THICKNESS + radius;
+        float right = this.windowDimensions.x() - BORDER_THICKNESS - radius;
+        float width = right - left;
+        if (velocity.y() <= 0 || y > landingY || width <= 0) {
+            return x;
+        }
+        float unfoldedX = x + velocity.x() * (landingY - y) / velocity.y();
+        // the path is straight without the side borders; each bounce off them mirrors it back into the range
+        float offset = (unfoldedX - left) % (2 * width);
+        if (offset < 0) {
+            offset += 2 * width;
+        }
+        if (offset > width) {
+            offset = 2 * width - offset;
+        }
+        return left + offset;
+    }
+}
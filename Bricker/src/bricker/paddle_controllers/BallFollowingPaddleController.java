@@ -0,0 +1,42 @@
+package bricker.paddle_controllers;
+
+import static bricker.main.Constants.FOLLOWING_DEAD_ZONE;
+
+import bricker.gameobjects.Paddle;
+import danogl.GameObject;
+
+import java.util.function.Supplier;
+
+
+/**
+ * The BallFollowingPaddleController class is a simple bot, which moves the paddles toward the ball's current
+ * x coordinate. It doesn't predict where the ball will land, so fast balls near the borders can get past it.
+ */
+public class BallFollowingPaddleController implements PaddleController {
+    private final Supplier<? extends GameObject> ball;
+
+    /**
+     * Constructor.
+     * @param ball Supplies the followed ball of the current game.
+     */
+    public BallFollowingPaddleController(Supplier<? extends GameObject> ball) {
+        this.ball = ball;
+    }
+
+    /**
+     * @param paddle The paddle that asks where to move.
+     * @return Direction from the paddle's center to the ball's center, 0 if they're close enough.
+     */
+    @Override
+    public int getDirection(Paddle paddle) {
+        GameObject ball = this.ball.get();
+        // the centers are computed from the corners, since getCenter allocates a new vector
+        float ballX = ball.getTopLeftCorner().x() + ball.getDimensions().x() * 0.5f;
+        float paddleX = paddle.getTopLeftCorner().x() + paddle.getDimensions().x() * 0.5f;
+        float distance = ballX - paddleX;
+        if (Math.abs(distance) <= FOLLOWING_DEAD_ZONE) {
+            return 0;
+        }
+        return distance < 0 ? -1 : 1;
+    }
+}
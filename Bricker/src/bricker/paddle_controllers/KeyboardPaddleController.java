@@ -0,0 +1,37 @@
+package bricker.paddle_controllers;
+
+import bricker.gameobjects.Paddle;
+import danogl.gui.UserInputListener;
+
+import java.awt.event.KeyEvent;
+
+
+/**
+ * The KeyboardPaddleController class moves the paddles according to the player's arrow keys. Pressing both
+ * arrows, or neither of them, keeps the paddles in place.
+ */
+public class KeyboardPaddleController implements PaddleController {
+    private final UserInputListener inputListener;
+
+    /**
+     * Constructor.
+     * @param inputListener Object responsible for tracking player's keyboard presses.
+     */
+    public KeyboardPaddleController(UserInputListener inputListener) {
+        this.inputListener = inputListener;
+    }
+
+    /**
+     * @param paddle The paddle that asks where to move.
+     * @return -1 if only the left arrow is pressed, 1 if only the right arrow is pressed, 0 otherwise.
+     */
+    @Override
+    public int getDirection(Paddle paddle) {
+        boolean left = this.inputListener.isKeyPressed(KeyEvent.VK_LEFT);
+        boolean right = this.inputListener.isKeyPressed(KeyEvent.VK_RIGHT);
+        if (left == right) {
+            return 0;
+        }
+        return left ? -1 : 1;
+    }
+}
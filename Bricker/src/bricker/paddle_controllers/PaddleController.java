@@ -0,0 +1,22 @@
+package bricker.paddle_controllers;
+
+import bricker.gameobjects.Paddle;
+
+
+/**
+ * The PaddleController interface decides where the paddles of the game move. Each paddle asks its
+ * controller once per frame, so a controller may be a player's keyboard as well as a bot.
+ */
+public interface PaddleController {
+    /**
+     * @param paddle The paddle that asks where to move.
+     * @return Direction the paddle should move in: negative for left, positive for right, 0 to stay.
+     */
+    int getDirection(Paddle paddle);
+
+    /**
+     * Called by the game once at the start of every frame, before any paddle asks where to move.
+     */
+    default void nextFrame() {
+    }
+}
@@ -0,0 +1,38 @@
+package bricker.paddle_controllers;
+
+import bricker.replay.InputReplayer;
+
+
+/**
+ * The ReplayPaddleController class moves the paddles the way the player did in an input recording (see
+ * InputRecorder). Only the paddles are replayed, so the replayer shouldn't also be set as the game's input
+ * log; the game should be created with the recording's seed for the paddles to meet the same balls.
+ */
+public class ReplayPaddleController extends KeyboardPaddleController {
+    private final InputReplayer replayer;
+
+    /**
+     * Constructor.
+     * @param replayer Reader of the input recording.
+     */
+    public ReplayPaddleController(InputReplayer replayer) {
+        super(replayer);
+        this.replayer = replayer;
+    }
+
+    /**
+     * Moves on to the arrow keys the player held in the next frame of the recording. The recorded time step
+     * isn't used, since only the paddles are replayed.
+     */
+    @Override
+    public void nextFrame() {
+        this.replayer.nextFrame(0);
+    }
+
+    /**
+     * @return Whether the whole recording was replayed; the paddles stay in place from then on.
+     */
+    public boolean isFinished() {
+        return this.replayer.isFinished();
+    }
+}
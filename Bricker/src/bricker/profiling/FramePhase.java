@@ -0,0 +1,29 @@
+package bricker.profiling;
+
+
+/**
+ * The FramePhase enum identifies the parts of a frame of the game that a FrameProfiler times, in the order
+ * they run.
+ */
+public enum FramePhase {
+    /**
+     * The engine's update: moving the objects, their own updates and the collisions.
+     */
+    ENGINE_UPDATE,
+    /**
+     * Applying the strategies of the bricks hit in the frame.
+     */
+    BRICK_HITS,
+    /**
+     * Removing pucks, hearts and temporary paddles that are no longer in use.
+     */
+    OBJECT_CLEANUP,
+    /**
+     * Checking whether the camera should go back to following nothing.
+     */
+    CAMERA_CHECK,
+    /**
+     * Checking whether the game was won or lost, and resetting it in case it ended.
+     */
+    WIN_LOSE_CHECK
+}
@@ -0,0 +1,149 @@
+package bricker.profiling;
+
+import bricker.gameobjects.ObjectKind;
+import danogl.GameObject;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * The FrameProfiler class measures where the time of the game's frames goes, without attaching a profiler.
+ * The game marks the start of each frame and the end of each of its phases (see FramePhase), and the profiler
+ * sums up the phases over a window of frames. At the end of each window it counts the live objects by kind,
+ * and takes the memory allocated by the game's thread and the garbage collections of the window from the JVM.
+ * The metrics of the window are then kept as the last report, for an overlay to show, and handed to an
+ * exporter, if one was set.
+ * Only the game's thread is measured, so the profiler should be used by a single game at a time.
+ */
+public class FrameProfiler {
+    private final int reportFrames;
+    private final com.sun.management.ThreadMXBean allocationBean;
+    private final List<GarbageCollectorMXBean> gcBeans;
+    private final long[] phaseNanos;
+    private MetricsExporter exporter;
+    private ProfileReport lastReport;
+    private long frames;
+    private int windowFrames;
+    private long frameStart;
+    private long phaseStart;
+    private long maxFrameNanos;
+    private long windowAllocatedBytes;
+    private long windowGcCount;
+    private long windowGcMillis;
+
+    /**
+     * Constructor.
+     * @param reportFrames Number of frames summed up in each report.
+     */
+    public FrameProfiler(int reportFrames) {
+        this.reportFrames = reportFrames;
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        // allocations are only measured by JVMs that extend the standard bean
+        if (threadBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()) {
+            this.allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+            this.allocationBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            this.allocationBean = null;
+        }
+        this.gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+        this.phaseNanos = new long[FramePhase.values().length];
+    }
+
+    /**
+     * Sets the exporter that each report is written to.
+     * @param exporter Exporter of the reports, null to keep them only as the last report.
+     */
+    public void setExporter(MetricsExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    /**
+     * @return The report of the last window of frames that ended, null if none ended yet.
+     */
+    public ProfileReport getLastReport() {
+        return this.lastReport;
+    }
+
+    /**
+     * Marks the start of a frame, which is also the start of its first phase.
+     */
+    public void startFrame() {
+        if (this.windowFrames == 0) {
+            this.windowAllocatedBytes = allocatedBytes();
+            this.windowGcCount = gcCount();
+            this.windowGcMillis = gcMillis();
+        }
+        this.frameStart = System.nanoTime();
+        this.phaseStart = this.frameStart;
+    }
+
+    /**
+     * Marks the end of a phase of the current frame, which is also the start of the next phase.
+     * @param phase The phase that ended.
+     */
+    public void endPhase(FramePhase phase) {
+        long now = System.nanoTime();
+        this.phaseNanos[phase.ordinal()] += now - this.phaseStart;
+        this.phaseStart = now;
+    }
+
+    /**
+     * Marks the end of the current frame. In case it ends a window, the window's report is made from the
+     * game's objects, and exported.
+     * @param gameObjects The objects of the game, counted by kind.
+     */
+    public void endFrame(Iterable<GameObject> gameObjects) {
+        this.maxFrameNanos = Math.max(this.maxFrameNanos, this.phaseStart - this.frameStart);
+        this.windowFrames++;
+        if (this.windowFrames < this.reportFrames) {
+            return;
+        }
+        int[] objectCounts = new int[ObjectKind.values().length];
+        for (GameObject obj : gameObjects) {
+            objectCounts[ObjectKind.of(obj).ordinal()]++;
+        }
+        long allocatedBytes = -1;
+        if (this.allocationBean != null) {
+            allocatedBytes = allocatedBytes() - this.windowAllocatedBytes;
+        }
+        this.lastReport = new ProfileReport(this.frames, this.windowFrames, this.phaseNanos.clone(),
+                this.maxFrameNanos, objectCounts, allocatedBytes, gcCount() - this.windowGcCount,
+                gcMillis() - this.windowGcMillis);
+        this.frames += this.windowFrames;
+        this.windowFrames = 0;
+        this.maxFrameNanos = 0;
+        Arrays.fill(this.phaseNanos, 0);
+        if (this.exporter != null) {
+            this.exporter.write(this.lastReport);
+        }
+    }
+
+    private long allocatedBytes() {
+        if (this.allocationBean == null) {
+            return 0;
+        }
+        return this.allocationBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private long gcCount() {
+        long count = 0;
+        for (int i = 0; i < this.gcBeans.size(); i++) {
+            // a collector that doesn't count its collections returns -1
+            count += Math.max(this.gcBeans.get(i).getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    private long gcMillis() {
+        long millis = 0;
+        for (int i = 0; i < this.gcBeans.size(); i++) {
+            millis += Math.max(this.gcBeans.get(i).getCollectionTime(), 0);
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,132 @@
+package bricker.profiling;
+
+import static bricker.main.Constants.JSON_METRICS_EXTENSION;
+
+import bricker.gameobjects.ObjectKind;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+
+/**
+ * The MetricsExporter class writes the reports of a FrameProfiler to a file, one line per report, as they're
+ * made. Files whose name ends with ".json" get a JSON object per line (JSON Lines); any other file gets a CSV
+ * table with a header line. Each line is flushed as it's written, so the file can be followed while the game
+ * runs.
+ */
+public class MetricsExporter implements Closeable {
+    private final BufferedWriter writer;
+    private final boolean json;
+    private final StringBuilder line;
+
+    /**
+     * Constructor. Creates the metrics file, replacing an existing one.
+     * @param path Path of the metrics file.
+     * @throws IOException If the file can't be created.
+     */
+    public MetricsExporter(Path path) throws IOException {
+        this.writer = Files.newBufferedWriter(path);
+        this.json = path.getFileName().toString().endsWith(JSON_METRICS_EXTENSION);
+        this.line = new StringBuilder();
+        if (!this.json) {
+            writeLine(csvHeader());
+        }
+    }
+
+    /**
+     * Writes a report as a line of the file.
+     * @param report A report of a FrameProfiler.
+     * @throws UncheckedIOException If writing to the file fails.
+     */
+    public void write(ProfileReport report) {
+        this.line.setLength(0);
+        if (this.json) {
+            appendJson(report);
+        } else {
+            appendCsv(report);
+        }
+        writeLine(this.line);
+    }
+
+    /**
+     * Closes the metrics file. Later reports can't be written.
+     * @throws IOException If closing the file fails.
+     */
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+    private static CharSequence csvHeader() {
+        StringBuilder header = new StringBuilder("first_frame,frames");
+        for (FramePhase phase : FramePhase.values()) {
+            header.append(',').append(phase.name().toLowerCase(Locale.ROOT)).append("_ms");
+        }
+        header.append(",frame_ms,max_frame_ms");
+        for (ObjectKind kind : ObjectKind.values()) {
+            header.append(',').append(kind.name().toLowerCase(Locale.ROOT)).append("_objects");
+        }
+        return header.append(",allocated_bytes_per_frame,gc_count,gc_ms");
+    }
+
+    private void appendCsv(ProfileReport report) {
+        this.line.append(report.getFirstFrame()).append(',').append(report.getFrames());
+        for (FramePhase phase : FramePhase.values()) {
+            this.line.append(',').append(formatMillis(report.getAveragePhaseMillis(phase)));
+        }
+        this.line.append(',').append(formatMillis(report.getAverageFrameMillis()))
+                .append(',').append(formatMillis(report.getMaxFrameMillis()));
+        for (ObjectKind kind : ObjectKind.values()) {
+            this.line.append(',').append(report.getObjectCount(kind));
+        }
+        this.line.append(',').append(report.getAllocatedBytesPerFrame())
+                .append(',').append(report.getGcCount())
+                .append(',').append(report.getGcMillis());
+    }
+
+    private void appendJson(ProfileReport report) {
+        this.line.append("{\"firstFrame\":").append(report.getFirstFrame())
+                .append(",\"frames\":").append(report.getFrames())
+                .append(",\"phaseMillis\":{");
+        for (FramePhase phase : FramePhase.values()) {
+            if (phase.ordinal() > 0) {
+                this.line.append(',');
+            }
+            this.line.append('"').append(phase.name()).append("\":")
+                    .append(formatMillis(report.getAveragePhaseMillis(phase)));
+        }
+        this.line.append("},\"frameMillis\":").append(formatMillis(report.getAverageFrameMillis()))
+                .append(",\"maxFrameMillis\":").append(formatMillis(report.getMaxFrameMillis()))
+                .append(",\"objects\":{");
+        for (ObjectKind kind : ObjectKind.values()) {
+            if (kind.ordinal() > 0) {
+                this.line.append(',');
+            }
+            this.line.append('"').append(kind.name()).append("\":").append(report.getObjectCount(kind));
+        }
+        this.line.append("},\"allocatedBytesPerFrame\":").append(report.getAllocatedBytesPerFrame())
+                .append(",\"gcCount\":").append(report.getGcCount())
+                .append(",\"gcMillis\":").append(report.getGcMillis())
+                .append('}');
+    }
+
+    private static String formatMillis(double millis) {
+        // a fixed locale, so the decimal separator doesn't clash with the file's separators
+        return String.format(Locale.ROOT, "%.4f", millis);
+    }
+
+    private void writeLine(CharSequence text) {
+        try {
+            this.writer.append(text);
+            this.writer.newLine();
+            this.writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package bricker.profiling;
+
+import bricker.gameobjects.ObjectKind;
+
+
+/**
+ * The ProfileReport class holds the metrics a FrameProfiler measured over a window of consecutive frames:
+ * the average time of each phase of a frame, the live objects of each kind at the end of the window, the
+ * memory allocated by the game's thread and the garbage collections that happened meanwhile.
+ */
+public class ProfileReport {
+    private final long firstFrame;
+    private final int frames;
+    private final long[] phaseNanos;
+    private final long maxFrameNanos;
+    private final int[] objectCounts;
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcMillis;
+
+    /**
+     * Constructor.
+     * @param firstFrame     Index of the first frame of the window, counted from the profiler's creation.
+     * @param frames         Number of frames in the window.
+     * @param phaseNanos     Total time, in nanoseconds, of each phase over the window, by FramePhase ordinal.
+     * @param maxFrameNanos  Time, in nanoseconds, of the longest frame of the window.
+     * @param objectCounts   Number of live game objects of each kind, by ObjectKind ordinal.
+     * @param allocatedBytes Bytes allocated by the game's thread over the window, negative if unknown.
+     * @param gcCount        Number of garbage collections over the window.
+     * @param gcMillis       Total time, in milliseconds, of the garbage collections over the window.
+     */
+    ProfileReport(long firstFrame, int frames, long[] phaseNanos, long maxFrameNanos, int[] objectCounts,
+                  long allocatedBytes, long gcCount, long gcMillis) {
+        this.firstFrame = firstFrame;
+        this.frames = frames;
+        this.phaseNanos = phaseNanos;
+        this.maxFrameNanos = maxFrameNanos;
+        this.objectCounts = objectCounts;
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcMillis = gcMillis;
+    }
+
+    /**
+     * @return Index of the first frame of the window, counted from the profiler's creation.
+     */
+    public long getFirstFrame() {
+        return this.firstFrame;
+    }
+
+    /**
+     * @return Number of frames in the window.
+     */
+    public int getFrames() {
+        return this.frames;
+    }
+
+    /**
+     * @param phase A phase of the frame.
+     * @return Average time, in milliseconds, the phase took in a frame of the window.
+     */
+    public double getAveragePhaseMillis(FramePhase phase) {
+        return this.phaseNanos[phase.ordinal()] / 1e6 / this.frames;
+    }
+
+    /**
+     * @return Average time, in milliseconds, of all the phases of a frame of the window.
+     */
+    public double getAverageFrameMillis() {
+        long totalNanos = 0;
+        for (long nanos : this.phaseNanos) {
+            totalNanos += nanos;
+        }
+        return totalNanos / 1e6 / this.frames;
+    }
+
+    /**
+     * @return Time, in milliseconds, of the longest frame of the window.
+     */
+    public double getMaxFrameMillis() {
+        return this.maxFrameNanos / 1e6;
+    }
+
+    /**
+     * @param kind A kind of game objects.
+     * @return Number of live game objects of the kind at the end of the window.
+     */
+    public int getObjectCount(ObjectKind kind) {
+        return this.objectCounts[kind.ordinal()];
+    }
+
+    /**
+     * @return Average number of bytes the game's thread allocated in a frame of the window, negative if the
+     * JVM doesn't measure allocations.
+     */
+    public long getAllocatedBytesPerFrame() {
+        if (this.allocatedBytes < 0) {
+            return -1;
+        }
+        return this.allocatedBytes / this.frames;
+    }
+
+    /**
+     * @return Number of garbage collections over the window.
+     */
+    public long getGcCount() {
+        return this.gcCount;
+    }
+
+    /**
+     * @return Total time, in milliseconds, of the garbage collections over the window.
+     */
+    public long getGcMillis() {
+        return this.gcMillis;
+    }
+}
@@ -0,0 +1,69 @@
+package bricker.profiling;
+
+import bricker.gameobjects.ObjectKind;
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
+import danogl.gui.rendering.TextRenderable;
+import danogl.gui.rendering.TextRenderable.MultilineHandling;
+import danogl.util.Vector2;
+
+import java.awt.*;
+import java.util.Locale;
+
+
+/**
+ * The ProfilerOverlay class displays the last report of a FrameProfiler on the player's screen, a line per
+ * metric. The text only changes when a new report is made, and not in every frame.
+ */
+public class ProfilerOverlay extends GameObject {
+    private final TextRenderable textObject;
+    private final FrameProfiler profiler;
+    private ProfileReport shownReport;
+
+    /**
+     * Constructor.
+     * @param profiler The profiler whose reports are displayed.
+     * @param topLeftCorner The top-left corner position of the overlay.
+     * @param lineHeight Height, in pixels, of a line of the overlay.
+     * @param gameObjects The collection of game objects.
+     */
+    public ProfilerOverlay(FrameProfiler profiler, Vector2 topLeftCorner, float lineHeight,
+                           GameObjectCollection gameObjects) {
+        super(topLeftCorner, Vector2.ZERO, null);
+        this.textObject = new TextRenderable("");
+        this.textObject.setColor(Color.MAGENTA);
+        this.profiler = profiler;
+        gameObjects.addGameObject(new GameObject(topLeftCorner, new Vector2(0, lineHeight), this.textObject),
+                Layer.UI);
+    }
+
+    /**
+     * Shows the profiler's report in case a new one was made since the last frame.
+     * @param deltaTime The time elapsed, in seconds, since the last frame.
+     */
+    @Override
+    public void update(float deltaTime) {
+        super.update(deltaTime);
+        ProfileReport report = this.profiler.getLastReport();
+        if (report == null || report == this.shownReport) {
+            return;
+        }
+        this.shownReport = report;
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "frame %.2f ms (max %.2f ms)", report.getAverageFrameMillis(),
+                report.getMaxFrameMillis()));
+        for (FramePhase phase : FramePhase.values()) {
+            text.append(String.format(Locale.ROOT, "\n%s %.3f ms", phase.name().toLowerCase(Locale.ROOT),
+                    report.getAveragePhaseMillis(phase)));
+        }
+        for (ObjectKind kind : ObjectKind.values()) {
+            text.append(String.format(Locale.ROOT, "\n%s %d", kind.name().toLowerCase(Locale.ROOT),
+                    report.getObjectCount(kind)));
+        }
+        text.append(String.format(Locale.ROOT, "\nallocated %d B/frame\ngc %d (%d ms)",
+                report.getAllocatedBytesPerFrame(), report.getGcCount(), report.getGcMillis()));
+        // the text object's height is that of a single line, and the text grows downwards
+        this.textObject.setString(text.toString(), MultilineHandling.HEIGHT_IS_FOR_SINGLE_LINE, 0);
+    }
+}
@@ -0,0 +1,106 @@
+package bricker.replay;
+
+import java.awt.event.KeyEvent;
+import java.nio.ByteBuffer;
+
+
+/**
+ * The InputLogFormat class defines the binary format of input recordings, shared by InputRecorder and
+ * InputReplayer.
+ * A recording starts with a header: MAGIC (int), VERSION (byte) and the seed of the game (long). It's
+ * followed by one entry per change of the recorded keys or of the frames' time step: the number of frames
+ * since the previous change (or since the first frame) as an unsigned varint, then the new state of the keys
+ * as a byte with one bit per key of RECORDED_KEYS. In case the time step changed too, the state has the
+ * NEW_DELTA_TIME bit set, and is followed by the new time step in seconds (float). The first entry is at the
+ * first frame, and always has a time step. A last entry with the END_OF_LOG state gives the number of frames
+ * recorded after the last change.
+ * The time steps are recorded since a windowed game's frames take as long as they happen to take; replaying
+ * the keys with other time steps wouldn't play the same game.
+ */
+final class InputLogFormat {
+    /**
+     * First bytes of every recording ("BRKR").
+     */
+    static final int MAGIC = 0x42524B52;
+
+    /**
+     * Version of the format.
+     */
+    static final byte VERSION = 2;
+
+    /**
+     * Size, in bytes, of the header.
+     */
+    static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + Long.BYTES;
+
+    /**
+     * Maximal size, in bytes, of a single entry: a varint of an int, the keys state and a time step.
+     */
+    static final int MAX_ENTRY_SIZE = 5 + Byte.BYTES + Float.BYTES;
+
+    /**
+     * Keys whose state is recorded, in the order of their bits in a keys state.
+     */
+    static final int[] RECORDED_KEYS = {KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT, KeyEvent.VK_W};
+
+    /**
+     * Keys state marking the end of the recording.
+     */
+    static final byte END_OF_LOG = (byte) 0x80;
+
+    /**
+     * Bit of a keys state telling that the entry also holds a new time step.
+     */
+    static final int NEW_DELTA_TIME = 0x40;
+
+    /**
+     * Bits of a keys state that belong to the recorded keys.
+     */
+    static final int KEYS_MASK = (1 << RECORDED_KEYS.length) - 1;
+
+    private InputLogFormat() {}
+
+    /**
+     * @param key Key code, as defined in KeyEvent.
+     * @return The bit of the key in a keys state, 0 if the key isn't recorded.
+     */
+    static int bitOf(int key) {
+        for (int i = 0; i < RECORDED_KEYS.length; i++) {
+            if (RECORDED_KEYS[i] == key) {
+                return 1 << i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Writes a non-negative int as an unsigned varint: 7 bits per byte, lowest bits first, with the high bit
+     * of each byte set if more bytes follow.
+     * @param buffer Buffer to write to.
+     * @param value Value to write.
+     */
+    static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned varint written by putVarInt.
+     * @param buffer Buffer to read from.
+     * @return The value read.
+     */
+    static int getVarInt(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
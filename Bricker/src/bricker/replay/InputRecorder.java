@@ -0,0 +1,147 @@
+package bricker.replay;
+
+import static bricker.main.Constants.INPUT_LOG_BUFFER_SIZE;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+
+/**
+ * The InputRecorder class records the state of the keys the game reacts to in each frame, and the frame's
+ * time step, together with the seed of the game, so that the session can later be replayed by an
+ * InputReplayer. Only changes of the keys state or of the time step are written (see InputLogFormat).
+ * Entries are collected in a buffer, and a full buffer is written to the file in the background while
+ * entries go to a second buffer, so the frame loop doesn't wait for the disk.
+ */
+public class InputRecorder extends RecordedKeysInputListener implements Closeable {
+    private final AsynchronousFileChannel channel;
+    private ByteBuffer buffer;
+    private ByteBuffer writtenBuffer;
+    private Future<Integer> pendingWrite;
+    private long filePosition;
+    private int frame;
+    private int lastChangeFrame;
+    private int lastKeysState;
+    private float lastDeltaTime;
+    private boolean closed;
+
+    /**
+     * Constructor. Creates the recording file, replacing an existing one, and writes its header.
+     * @param path Path of the recording file.
+     * @param seed Seed of the recorded game.
+     * @throws IOException If the file can't be created.
+     */
+    public InputRecorder(Path path, long seed) throws IOException {
+        this.channel = AsynchronousFileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocate(INPUT_LOG_BUFFER_SIZE);
+        this.writtenBuffer = ByteBuffer.allocate(INPUT_LOG_BUFFER_SIZE);
+        this.buffer.putInt(InputLogFormat.MAGIC);
+        this.buffer.put(InputLogFormat.VERSION);
+        this.buffer.putLong(seed);
+        // not equal to any time step, so the first frame's time step is written
+        this.lastDeltaTime = Float.NaN;
+    }
+
+    /**
+     * Samples the recorded keys from the source listener, and writes their state and the frame's time step
+     * if either changed since the previous frame.
+     * @param deltaTime The time, in seconds, the engine measured for the frame that starts.
+     * @return State of the recorded keys in the frame that starts.
+     */
+    @Override
+    protected int nextKeysState(float deltaTime) {
+        int keysState = 0;
+        if (getSource() != null) {
+            for (int i = 0; i < InputLogFormat.RECORDED_KEYS.length; i++) {
+                if (getSource().isKeyPressed(InputLogFormat.RECORDED_KEYS[i])) {
+                    keysState |= 1 << i;
+                }
+            }
+        }
+        if (!this.closed && deltaTime != this.lastDeltaTime) {
+            writeEntry(keysState | InputLogFormat.NEW_DELTA_TIME, deltaTime);
+        } else if (!this.closed && keysState != this.lastKeysState) {
+            writeEntry(keysState, this.lastDeltaTime);
+        }
+        this.frame++;
+        return keysState;
+    }
+
+    /**
+     * Writes the end of the recording, waits for all entries to reach the file and closes it. Later frames
+     * aren't recorded.
+     * @throws IOException If writing to the file fails.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        // the frame counter is already past the last recorded frame
+        writeEntry(InputLogFormat.END_OF_LOG, this.lastDeltaTime);
+        this.closed = true;
+        try {
+            swapBuffers();
+            waitForPendingWrite();
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    private void writeEntry(int keysState, float deltaTime) {
+        if (this.buffer.remaining() < InputLogFormat.MAX_ENTRY_SIZE) {
+            try {
+                swapBuffers();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        InputLogFormat.putVarInt(this.buffer, this.frame - this.lastChangeFrame);
+        this.buffer.put((byte) keysState);
+        if ((keysState & InputLogFormat.NEW_DELTA_TIME) != 0) {
+            this.buffer.putFloat(deltaTime);
+        }
+        this.lastChangeFrame = this.frame;
+        this.lastKeysState = keysState & InputLogFormat.KEYS_MASK;
+        this.lastDeltaTime = deltaTime;
+    }
+
+    private void swapBuffers() throws IOException {
+        // the previous write is long done by the time a whole buffer is filled again, so this rarely waits
+        waitForPendingWrite();
+        ByteBuffer fullBuffer = this.buffer;
+        this.buffer = this.writtenBuffer;
+        this.writtenBuffer = fullBuffer;
+        this.buffer.clear();
+        fullBuffer.flip();
+        this.pendingWrite = this.channel.write(fullBuffer, this.filePosition);
+    }
+
+    private void waitForPendingWrite() throws IOException {
+        if (this.pendingWrite == null) {
+            return;
+        }
+        try {
+            this.filePosition += this.pendingWrite.get();
+            // a write may be partial; write the rest of the buffer before reusing it
+            while (this.writtenBuffer.hasRemaining()) {
+                this.filePosition += this.channel.write(this.writtenBuffer, this.filePosition).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing the input recording", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed writing the input recording", e.getCause());
+        } finally {
+            this.pendingWrite = null;
+        }
+    }
+}
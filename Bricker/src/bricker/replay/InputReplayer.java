@@ -0,0 +1,131 @@
+package bricker.replay;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * The InputReplayer class replays a recording made by an InputRecorder: in each frame, the keys the game
+ * reacts to are pressed exactly as they were in the same frame of the recorded session, instead of being
+ * read from the keyboard, and the frame takes the time step it took in the recorded session, whatever time
+ * step the engine measured. A game created with the recording's seed plays exactly as the recorded game did,
+ * whether it's replayed in a window or headless.
+ * After the recording ends no key is pressed, and the frames take the time steps given by the engine. A
+ * recording that wasn't closed properly (e.g. when the game crashed) is replayed up to its last complete
+ * entry.
+ */
+public class InputReplayer extends RecordedKeysInputListener {
+    private final ByteBuffer entries;
+    private final long seed;
+    private int frame;
+    private int nextChangeFrame;
+    private int nextKeysState;
+    private int currentKeysState;
+    private float nextDeltaTime;
+    private float currentDeltaTime;
+    private boolean endReached;
+
+    /**
+     * Constructor. Reads the whole recording.
+     * @param path Path of the recording file.
+     * @throws IOException If the file can't be read, or isn't a recording.
+     */
+    public InputReplayer(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.entries = ByteBuffer.allocate((int) channel.size());
+            while (this.entries.hasRemaining() && channel.read(this.entries) >= 0) {
+                // keep reading until the whole file is in the buffer
+            }
+        }
+        this.entries.flip();
+        if (this.entries.remaining() < InputLogFormat.HEADER_SIZE
+                || this.entries.getInt() != InputLogFormat.MAGIC) {
+            throw new IOException(path + " is not an input recording");
+        }
+        byte version = this.entries.get();
+        if (version != InputLogFormat.VERSION) {
+            throw new IOException("Unsupported input recording version " + version);
+        }
+        this.seed = this.entries.getLong();
+        // the first entry has a time step, unless the recording has none at all
+        this.nextDeltaTime = Float.NaN;
+        this.currentDeltaTime = Float.NaN;
+        readNextEntry();
+    }
+
+    /**
+     * @return Seed of the recorded game.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * @return Number of frames replayed so far.
+     */
+    public int getFrame() {
+        return this.frame;
+    }
+
+    /**
+     * @return true if all the recorded frames were replayed, false otherwise.
+     */
+    public boolean isFinished() {
+        return this.endReached && this.frame >= this.nextChangeFrame;
+    }
+
+    /**
+     * @param deltaTime The time, in seconds, the engine measured for the frame that starts; not used.
+     * @return State of the recorded keys in the frame that starts, as recorded.
+     */
+    @Override
+    protected int nextKeysState(float deltaTime) {
+        // a change may be recorded at the same frame as the end, when the last frame had a change
+        while (!this.endReached && this.frame >= this.nextChangeFrame) {
+            this.currentKeysState = this.nextKeysState;
+            this.currentDeltaTime = this.nextDeltaTime;
+            readNextEntry();
+        }
+        int keysState = isFinished() ? 0 : this.currentKeysState;
+        this.frame++;
+        return keysState;
+    }
+
+    /**
+     * Called after nextKeysState, for the time step of the frame that starts.
+     * @param deltaTime The time, in seconds, the engine measured for the frame.
+     * @return The time step of the frame in the recorded session, deltaTime once the recording ended.
+     */
+    @Override
+    protected float frameTime(float deltaTime) {
+        // the frame counter is already past the frame that starts
+        if ((this.endReached && this.frame > this.nextChangeFrame) || Float.isNaN(this.currentDeltaTime)) {
+            return deltaTime;
+        }
+        return this.currentDeltaTime;
+    }
+
+    private void readNextEntry() {
+        try {
+            int framesSinceChange = InputLogFormat.getVarInt(this.entries);
+            byte keysState = this.entries.get();
+            if (keysState != InputLogFormat.END_OF_LOG && (keysState & InputLogFormat.NEW_DELTA_TIME) != 0) {
+                this.nextDeltaTime = this.entries.getFloat();
+            }
+            this.nextChangeFrame += framesSinceChange;
+            if (keysState == InputLogFormat.END_OF_LOG) {
+                this.endReached = true;
+            } else {
+                this.nextKeysState = keysState & InputLogFormat.KEYS_MASK;
+            }
+        } catch (BufferUnderflowException e) {
+            // a recording that wasn't closed ends right after the frame of its last complete entry
+            this.endReached = true;
+            this.nextChangeFrame = this.frame + 1;
+        }
+    }
+}
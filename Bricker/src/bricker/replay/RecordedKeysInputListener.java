@@ -0,0 +1,160 @@
+package bricker.replay;
+
+import danogl.components.movement_schemes.movement_directing.KeyboardMovementDirector;
+import danogl.components.movement_schemes.movement_directing.MouseMovementDirector;
+import danogl.gui.UserInputListener;
+import danogl.gui.mouse.MouseButton;
+import danogl.gui.rendering.Camera;
+import danogl.util.Vector2;
+
+import java.util.HashSet;
+import java.util.Set;
+
+
+/**
+ * The RecordedKeysInputListener class is the base of the input listeners that record or replay the keys the
+ * game reacts to (see InputLogFormat.RECORDED_KEYS), along with the time step of each frame. The state of
+ * these keys is set once at the start of each frame, by nextFrame, and doesn't change during the frame.
+ * Everything else is answered by the source listener, which is the one the engine gives the game.
+ */
+public abstract class RecordedKeysInputListener implements UserInputListener {
+    private UserInputListener source;
+    private int keysState;
+    private int previousKeysState;
+
+    /**
+     * Sets the listener that answers about everything but the recorded keys. Should be called whenever the
+     * game is initialized, since the engine creates a new listener for each game.
+     * @param source The input listener given by the engine.
+     */
+    public void setSource(UserInputListener source) {
+        this.source = source;
+    }
+
+    /**
+     * Sets the state of the recorded keys for the frame that starts. Should be called once, at the start of
+     * each frame, and the frame should then be played with the time step returned.
+     * @param deltaTime The time, in seconds, the engine measured for the frame.
+     * @return The time, in seconds, the frame should take: the recorded one when replaying, deltaTime
+     * otherwise.
+     */
+    public float nextFrame(float deltaTime) {
+        this.previousKeysState = this.keysState;
+        this.keysState = nextKeysState(deltaTime);
+        return frameTime(deltaTime);
+    }
+
+    /**
+     * @return The source listener, null if none was set.
+     */
+    protected UserInputListener getSource() {
+        return this.source;
+    }
+
+    /**
+     * @param deltaTime The time, in seconds, the engine measured for the frame that starts.
+     * @return State of the recorded keys in the frame that starts, one bit per key of
+     * InputLogFormat.RECORDED_KEYS.
+     */
+    protected abstract int nextKeysState(float deltaTime);
+
+    /**
+     * Called after nextKeysState, for the time step of the frame that starts.
+     * @param deltaTime The time, in seconds, the engine measured for the frame.
+     * @return The time, in seconds, the frame should take. deltaTime, unless overridden.
+     */
+    protected float frameTime(float deltaTime) {
+        return deltaTime;
+    }
+
+    @Override
+    public boolean isKeyPressed(int keyFromKeyEvent) {
+        int bit = InputLogFormat.bitOf(keyFromKeyEvent);
+        if (bit == 0) {
+            return this.source != null && this.source.isKeyPressed(keyFromKeyEvent);
+        }
+        return (this.keysState & bit) != 0;
+    }
+
+    @Override
+    public boolean wasKeyPressedThisFrame(int keyFromKeyEvent) {
+        int bit = InputLogFormat.bitOf(keyFromKeyEvent);
+        if (bit == 0) {
+            return this.source != null && this.source.wasKeyPressedThisFrame(keyFromKeyEvent);
+        }
+        return (this.keysState & ~this.previousKeysState & bit) != 0;
+    }
+
+    @Override
+    public boolean wasKeyReleasedThisFrame(int keyFromKeyEvent) {
+        int bit = InputLogFormat.bitOf(keyFromKeyEvent);
+        if (bit == 0) {
+            return this.source != null && this.source.wasKeyReleasedThisFrame(keyFromKeyEvent);
+        }
+        return (~this.keysState & this.previousKeysState & bit) != 0;
+    }
+
+    @Override
+    public boolean wasMouseButtonClickedThisFrame(MouseButton button) {
+        return this.source != null && this.source.wasMouseButtonClickedThisFrame(button);
+    }
+
+    @Override
+    public boolean wasMouseButtonPressedThisFrame(MouseButton button) {
+        return this.source != null && this.source.wasMouseButtonPressedThisFrame(button);
+    }
+
+    @Override
+    public boolean wasMouseButtonReleasedThisFrame(MouseButton button) {
+        return this.source != null && this.source.wasMouseButtonReleasedThisFrame(button);
+    }
+
+    @Override
+    public boolean isMouseButtonPressed(MouseButton button) {
+        return this.source != null && this.source.isMouseButtonPressed(button);
+    }
+
+    @Override
+    public Vector2 getMouseScreenPos() {
+        return this.source == null ? Vector2.ZERO : this.source.getMouseScreenPos();
+    }
+
+    @Override
+    public double mouseWheelClicksThisFrame() {
+        return this.source == null ? 0 : this.source.mouseWheelClicksThisFrame();
+    }
+
+    @Override
+    public Set<Integer> pressedKeys() {
+        // the source's keys, with the recorded keys replaced by their state in this frame
+        Set<Integer> pressedKeys = new HashSet<>();
+        if (this.source != null) {
+            for (int key : this.source.pressedKeys()) {
+                if (InputLogFormat.bitOf(key) == 0) {
+                    pressedKeys.add(key);
+                }
+            }
+        }
+        for (int key : InputLogFormat.RECORDED_KEYS) {
+            if (isKeyPressed(key)) {
+                pressedKeys.add(key);
+            }
+        }
+        return pressedKeys;
+    }
+
+    @Override
+    public Set<MouseButton> pressedMouseButtons() {
+        return this.source == null ? Set.of() : this.source.pressedMouseButtons();
+    }
+
+    @Override
+    public MouseMovementDirector mouseMovementDirector(Camera camera) {
+        return this.source == null ? null : this.source.mouseMovementDirector(camera);
+    }
+
+    @Override
+    public KeyboardMovementDirector keyboardMovementDirector() {
+        return this.source == null ? null : this.source.keyboardMovementDirector();
+    }
+}